@@ -0,0 +1,97 @@
+package com.example.HireTrack.benchmark;
+
+import com.example.HireTrack.HireTrackApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.Arrays;
+
+/**
+ * The application context (without the web layer) against a throwaway Postgres container, with
+ * the scheduled jobs pushed out of the measurement window. Tables are created by the Flyway migrations.
+ */
+public final class BenchmarkContext implements AutoCloseable {
+
+    private final PostgreSQLContainer<?> postgres;
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkContext(PostgreSQLContainer<?> postgres, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.context = context;
+    }
+
+    public static BenchmarkContext start() {
+        return start(WebApplicationType.NONE);
+    }
+
+    /**
+     * The full application, including the embedded web server on a random port
+     */
+    public static BenchmarkContext startWeb(String... properties) {
+        String[] withPort = Arrays.copyOf(properties, properties.length + 1);
+        withPort[properties.length] = "server.port=0";
+        return start(WebApplicationType.SERVLET, withPort);
+    }
+
+    private static BenchmarkContext start(WebApplicationType webApplicationType, String... properties) {
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(HireTrackApplication.class)
+                .web(webApplicationType)
+                .properties(properties)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "app.reminder.cron=-",
+                        "app.reminder.takeover-interval-ms=3600000",
+                        "app.outbox.poll-interval-ms=3600000",
+                        "app.outbox.purge-cron=-",
+                        "app.archive.cron=-",
+                        "logging.level.root=WARN")
+                .run();
+        return new BenchmarkContext(postgres, context);
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public int port() {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    public JdbcTemplate jdbc() {
+        return context.getBean(JdbcTemplate.class);
+    }
+
+    /**
+     * Insert users user1..userN@example.com with applications spread evenly across them
+     */
+    public void seed(int users, int applications) {
+        jdbc().update("""
+                INSERT INTO users (email, name, created_at, updated_at)
+                SELECT 'user' || g || '@example.com', 'User ' || g, now(), now()
+                FROM generate_series(1, ?) g
+                """, users);
+        jdbc().update("""
+                INSERT INTO job_applications (id, company, position, status, applied_date, notes, user_id, created_at, updated_at)
+                SELECT uuid_generate_v7(), 'Company ' || (g % 500), 'Engineer',
+                       (ARRAY['APPLIED','INTERVIEW','REJECTED','OFFERED','HIRED'])[1 + g % 5],
+                       current_date - (g % 365), 'Applied online', u.id, now(), now()
+                FROM generate_series(1, ?) g
+                JOIN users u ON u.email = 'user' || (1 + g % ?) || '@example.com'
+                """, applications, users);
+        jdbc().execute("ANALYZE users");
+        jdbc().execute("ANALYZE job_applications");
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        postgres.stop();
+    }
+}
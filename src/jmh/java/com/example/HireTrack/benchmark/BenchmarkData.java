@@ -0,0 +1,59 @@
+package com.example.HireTrack.benchmark;
+
+import com.example.HireTrack.model.ApplicationStatus;
+import com.example.HireTrack.model.JobApplication;
+import com.example.HireTrack.model.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deterministic in-memory fixtures for the benchmarks
+ */
+public final class BenchmarkData {
+
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    private BenchmarkData() {
+    }
+
+    public static User user() {
+        User user = new User();
+        user.setEmail("bench@example.com");
+        user.setName("Bench User");
+        return user;
+    }
+
+    /**
+     * Applications as they come out of the database: ids and timestamps set, every tenth one with
+     * notes that need CSV quoting
+     */
+    public static List<JobApplication> applications(int count) {
+        List<JobApplication> applications = new ArrayList<>(count);
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 9, 30);
+        for (int i = 0; i < count; i++) {
+            JobApplication app = newApplication(i);
+            app.setId(new UUID(0, i));
+            app.setCreatedAt(created.plusMinutes(i));
+            app.setUpdatedAt(created.plusMinutes(i));
+            applications.add(app);
+        }
+        return applications;
+    }
+
+    /**
+     * A transient application, ready to be persisted
+     */
+    public static JobApplication newApplication(int i) {
+        JobApplication app = new JobApplication();
+        app.setCompany("Company " + (i % 500));
+        app.setPosition("Software Engineer " + (i % 7));
+        app.setStatus(STATUSES[i % STATUSES.length]);
+        app.setAppliedDate(LocalDate.of(2024, 1, 1).plusDays(i % 365));
+        app.setNotes(i % 10 == 0 ? "Referred by \"Alex\", follow up\nnext week" : "Applied online");
+        return app;
+    }
+}
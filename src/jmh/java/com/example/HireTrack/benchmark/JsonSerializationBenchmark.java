@@ -0,0 +1,77 @@
+package com.example.HireTrack.benchmark;
+
+import com.example.HireTrack.dto.CursorPage;
+import com.example.HireTrack.dto.JobApplicationSummary;
+import com.example.HireTrack.model.JobApplication;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response serialization: the offset Page shape the API used to return versus the CursorPage it returns now,
+ * with full entities and with the fields=summary projection
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private Page<JobApplication> page;
+    private CursorPage<JobApplication> cursorPage;
+    private CursorPage<JobApplicationSummary> summaryPage;
+
+    @Setup
+    public void setUp() {
+        // Same builder (and so the same modules and date handling) Spring Boot configures for MVC
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<JobApplication> applications = BenchmarkData.applications(size);
+        page = new PageImpl<>(applications, PageRequest.of(0, size), 10_000);
+        String cursor = "MjAyNC0wMS0xNXw1NTBlODQwMC1lMjliLTQxZDQtYTcxNi00NDY2NTU0NDAwMDA";
+        cursorPage = new CursorPage<>(applications, cursor, true);
+        // The same proxies Spring Data returns for interface projections
+        SpelAwareProxyProjectionFactory projections = new SpelAwareProxyProjectionFactory();
+        summaryPage = new CursorPage<>(applications.stream()
+                .map(app -> projections.createProjection(JobApplicationSummary.class, app))
+                .toList(), cursor, true);
+    }
+
+    @Benchmark
+    public byte[] page() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] cursorPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(cursorPage);
+    }
+
+    @Benchmark
+    public byte[] summaryCursorPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaryPage);
+    }
+}
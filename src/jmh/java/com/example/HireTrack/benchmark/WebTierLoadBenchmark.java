@@ -0,0 +1,93 @@
+package com.example.HireTrack.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the web tier: 256 concurrent clients against the running application, once on the
+ * Tomcat platform thread pool and once on virtual threads. Throughput mode gives requests per second,
+ * sample mode the latency distribution (p99 is in the JSON results as "0.99"). Requests rejected by the
+ * concurrency limit are counted as "rejected" rather than hidden in the throughput.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Threads(256)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WebTierLoadBenchmark {
+
+    private static final int USERS = 200;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    private BenchmarkContext context;
+    private HttpClient client;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void startServer() {
+        context = BenchmarkContext.startWeb("spring.threads.virtual.enabled=" + threads.equals("virtual"));
+        context.seed(USERS, 100_000);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        baseUrl = "http://localhost:" + context.port() + "/api/applications";
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        client.close();
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Responses {
+        public long rejected;
+    }
+
+    @Benchmark
+    public int search(Responses responses) throws IOException, InterruptedException {
+        return get("/user/" + randomUser() + "/search?q=company&size=20", responses);
+    }
+
+    @Benchmark
+    public int userStats(Responses responses) throws IOException, InterruptedException {
+        return get("/stats?userEmail=" + randomUser(), responses);
+    }
+
+    private int get(String path, Responses responses) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != 200) {
+            responses.rejected++;
+        }
+        return status;
+    }
+
+    private static String randomUser() {
+        return "user" + ThreadLocalRandom.current().nextInt(1, USERS + 1) + "@example.com";
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.HireTrack.repository;
+
+import com.example.HireTrack.benchmark.BenchmarkContext;
+import com.example.HireTrack.dto.ApplicationStats;
+import com.example.HireTrack.dto.DateBucket;
+import com.example.HireTrack.dto.JobApplicationSummary;
+import com.example.HireTrack.model.ApplicationStatus;
+import com.example.HireTrack.model.JobApplication;
+import com.example.HireTrack.service.ExportService;
+import com.example.HireTrack.service.JobApplicationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository access paths against a real Postgres (Testcontainers) seeded with 100k applications
+ * over 200 users. The list caches are bypassed by calling the repository directly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryQueryBenchmark {
+
+    private static final int USERS = 200;
+    private static final int APPLICATIONS = 100_000;
+    private static final Limit PAGE = Limit.of(20);
+
+    private BenchmarkContext context;
+    private JobApplicationRepository repository;
+    private JobApplicationService applicationService;
+    private ExportService exportService;
+    private List<Long> userIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContext.start();
+        context.seed(USERS, APPLICATIONS);
+        repository = context.bean(JobApplicationRepository.class);
+        applicationService = context.bean(JobApplicationService.class);
+        exportService = context.bean(ExportService.class);
+        userIds = context.jdbc().queryForList("SELECT id FROM users ORDER BY id", Long.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    // Rotate through users so one user's pages are not always hot in shared buffers
+    private String nextUser() {
+        next = next % USERS + 1;
+        return "user" + next + "@example.com";
+    }
+
+    private Long nextUserId() {
+        next = next % USERS + 1;
+        return userIds.get(next - 1);
+    }
+
+    @Benchmark
+    public Window<JobApplication> userFirstPage() {
+        return repository.findByUserIdOrderByAppliedDateDescIdDesc(nextUserId(), ScrollPosition.keyset(), PAGE,
+                JobApplication.class);
+    }
+
+    @Benchmark
+    public Window<JobApplicationSummary> userFirstPageSummary() {
+        return repository.findByUserIdOrderByAppliedDateDescIdDesc(nextUserId(), ScrollPosition.keyset(), PAGE,
+                JobApplicationSummary.class);
+    }
+
+    @Benchmark
+    public Window<JobApplication> userStatusFirstPage() {
+        return repository.findByUserIdAndStatusOrderByAppliedDateDescIdDesc(
+                nextUserId(), ApplicationStatus.APPLIED, ScrollPosition.keyset(), PAGE, JobApplication.class);
+    }
+
+    @Benchmark
+    public Window<JobApplication> statusFirstPage() {
+        return repository.findByStatusOrderByAppliedDateDescIdDesc(ApplicationStatus.INTERVIEW, ScrollPosition.keyset(), PAGE,
+                JobApplication.class);
+    }
+
+    @Benchmark
+    public ApplicationStats userStats() {
+        return applicationService.getStats(nextUser(), DateBucket.MONTH, 10);
+    }
+
+    @Benchmark
+    public ApplicationStats globalStats() {
+        return applicationService.getStats(null, DateBucket.MONTH, 10);
+    }
+
+    @Benchmark
+    public void userCsvExport() throws IOException {
+        exportService.streamCSV(nextUser(), OutputStream.nullOutputStream());
+    }
+}
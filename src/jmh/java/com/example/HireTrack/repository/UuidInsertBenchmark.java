@@ -0,0 +1,132 @@
+package com.example.HireTrack.repository;
+
+import com.example.HireTrack.benchmark.BenchmarkContext;
+import com.example.HireTrack.model.UuidV7Generator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Insert throughput into job_applications with random (v4) versus time-ordered (v7) ids, on a table that
+ * already holds existingRows rows of the same kind. The table keeps growing during the run, so the v4
+ * primary key index falls out of cache the way it does in production. The primary key index size and row
+ * count at the end of each trial are reported with the results as the primaryKeyMb and rows counters.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH = 1000;
+    private static final String USER_EMAIL = "user1@example.com";
+    private static final String INSERT_SQL = """
+            INSERT INTO job_applications (id, company, position, status, applied_date, user_id, created_at, updated_at)
+            VALUES (?, 'Company', 'Engineer', 'APPLIED', ?, ?, ?, ?)
+            """;
+
+    @Param({"v4", "v7"})
+    private String idVersion;
+
+    @Param({"1000000"})
+    private int existingRows;
+
+    private BenchmarkContext context;
+    private JdbcTemplate jdbc;
+    private Supplier<UUID> ids;
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContext.start();
+        context.seed(1, 0);
+        jdbc = context.jdbc();
+        userId = jdbc.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, USER_EMAIL);
+        boolean v7 = idVersion.equals("v7");
+        ids = v7 ? UuidV7Generator::next : UUID::randomUUID;
+        jdbc.update("""
+                INSERT INTO job_applications (id, company, position, status, applied_date, user_id, created_at, updated_at)
+                SELECT %s, 'Company', 'Engineer', 'APPLIED', current_date, ?, now(), now()
+                FROM generate_series(1, ?)
+                """.formatted(v7 ? "uuid_generate_v7()" : "gen_random_uuid()"), userId, existingRows);
+        jdbc.execute("VACUUM ANALYZE job_applications");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    /**
+     * Event counters are summed over the measurement iterations, so they are only set after the last one
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class TableSize {
+        public long primaryKeyMb;
+        public long rows;
+        private int measured;
+
+        @TearDown(Level.Iteration)
+        public void measure(UuidInsertBenchmark benchmark, IterationParams iteration) {
+            if (iteration.getType() != IterationType.MEASUREMENT || ++measured < iteration.getCount()) {
+                return;
+            }
+            // The partitioned table's key index has no storage of its own; its partitions' indexes hold the entries
+            primaryKeyMb = benchmark.jdbc.queryForObject(
+                    "SELECT sum(pg_relation_size(relid))::bigint FROM pg_partition_tree('job_applications_pkey')",
+                    Long.class) >> 20;
+            rows = benchmark.jdbc.queryForObject("SELECT count(*) FROM job_applications", Long.class);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[] insertBatch(TableSize tableSize) {
+        Date today = Date.valueOf(LocalDate.now());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbc.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setObject(1, ids.get());
+                ps.setDate(2, today);
+                ps.setLong(3, userId);
+                ps.setTimestamp(4, now);
+                ps.setTimestamp(5, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return BATCH;
+            }
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.HireTrack.service;
+
+import com.example.HireTrack.benchmark.BenchmarkContext;
+import com.example.HireTrack.benchmark.BenchmarkData;
+import com.example.HireTrack.dto.BatchItemResult;
+import com.example.HireTrack.model.JobApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second through the single-item create endpoint's service method versus the batch one
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkWriteBenchmark {
+
+    private static final int ROWS = 100;
+    private static final String USER_EMAIL = "user1@example.com";
+
+    private BenchmarkContext context;
+    private JobApplicationService service;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContext.start();
+        context.seed(1, 0);
+        service = context.bean(JobApplicationService.class);
+    }
+
+    // Keep the table (and its indexes) from growing across iterations
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        context.jdbc().execute("TRUNCATE job_applications");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void singleInserts(Blackhole blackhole) {
+        for (int i = 0; i < ROWS; i++) {
+            blackhole.consume(service.createApplication(BenchmarkData.newApplication(i), USER_EMAIL));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<BatchItemResult> batchInsert() {
+        List<JobApplication> applications = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            applications.add(BenchmarkData.newApplication(i));
+        }
+        return service.createApplications(applications, USER_EMAIL);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.HireTrack.service;
+
+import com.example.HireTrack.benchmark.BenchmarkData;
+import com.example.HireTrack.model.JobApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailServiceBenchmark {
+
+    @Param({"5", "50"})
+    private int applicationCount;
+
+    private List<JobApplication> applications;
+
+    @Setup
+    public void setUp() {
+        applications = BenchmarkData.applications(applicationCount);
+    }
+
+    @Benchmark
+    public String buildEmailContent() {
+        return EmailService.buildEmailContent("Bench User", applications);
+    }
+}
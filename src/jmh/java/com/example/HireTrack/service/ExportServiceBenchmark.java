@@ -0,0 +1,162 @@
+package com.example.HireTrack.service;
+
+import com.example.HireTrack.benchmark.BenchmarkContext;
+import com.example.HireTrack.dto.ExportFormat;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The streaming CSV export against the same export buffered in memory and then written, as the endpoint
+ * used to respond, and the streaming gzip CSV and NDJSON exports, for a single user with many applications
+ * in a seeded Postgres.
+ * Each export runs alone (single shot) so that, besides its duration, it can measure how far the heap grew
+ * above its post-GC baseline, taken from the heap memory pool peaks reset just before it, and its time
+ * to first byte; both are reported with the results as the peakHeapMb and firstByteMs counters.
+ * The young generation is kept small so that what the export holds on to, not its garbage, drives the peak.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-Xmn32m"})
+@State(Scope.Benchmark)
+public class ExportServiceBenchmark {
+
+    private static final String USER = "user1@example.com";
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    private BenchmarkContext context;
+    private ExportService exportService;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContext.start();
+        // Every application goes to user1
+        context.seed(1, rows);
+        exportService = context.bean(ExportService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    /**
+     * Peak heap and time to first byte of the export in the current iteration. Event counters are summed over
+     * the measurement iterations, so each export contributes its values divided by the iteration count, which
+     * makes the reported sums the means.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ExportStats {
+
+        private static final double MB = 1024.0 * 1024.0;
+        private static final List<MemoryPoolMXBean> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+
+        public double peakHeapMb;
+        public double firstByteMs;
+
+        private long baselineBytes;
+        private FirstByteOutputStream out;
+
+        @Setup(Level.Iteration)
+        public void resetPeaks() {
+            System.gc();
+            baselineBytes = 0;
+            for (MemoryPoolMXBean pool : HEAP_POOLS) {
+                pool.resetPeakUsage();
+                baselineBytes += pool.getUsage().getUsed();
+            }
+            out = new FirstByteOutputStream(System.nanoTime());
+        }
+
+        @TearDown(Level.Iteration)
+        public void recordPeaks(IterationParams iteration) {
+            long peakBytes = 0;
+            for (MemoryPoolMXBean pool : HEAP_POOLS) {
+                peakBytes += pool.getPeakUsage().getUsed();
+            }
+            peakHeapMb = Math.max(0, peakBytes - baselineBytes) / MB / iteration.getCount();
+            firstByteMs = out.firstByteNanos / 1_000_000.0 / iteration.getCount();
+        }
+    }
+
+    @Benchmark
+    public void bufferedCSV(ExportStats stats) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        exportService.export(USER, ExportFormat.CSV, false, buffer);
+        buffer.writeTo(stats.out);
+    }
+
+    @Benchmark
+    public void streamingCSV(ExportStats stats) throws IOException {
+        exportService.export(USER, ExportFormat.CSV, false, stats.out);
+    }
+
+    @Benchmark
+    public void streamingGzipCSV(ExportStats stats) throws IOException {
+        exportService.export(USER, ExportFormat.CSV, true, stats.out);
+    }
+
+    @Benchmark
+    public void streamingNDJSON(ExportStats stats) throws IOException {
+        exportService.export(USER, ExportFormat.NDJSON, false, stats.out);
+    }
+
+    /**
+     * Discards what is written, remembering when the first byte arrived relative to the start
+     */
+    private static final class FirstByteOutputStream extends OutputStream {
+
+        private final long startNanos;
+        private long firstByteNanos = -1;
+
+        FirstByteOutputStream(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void write(int b) {
+            markFirstByte();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if (len > 0) {
+                markFirstByte();
+            }
+        }
+
+        private void markFirstByte() {
+            if (firstByteNanos < 0) {
+                firstByteNanos = System.nanoTime() - startNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.HireTrack.cache;
+
+import com.example.HireTrack.dto.CursorPage;
+import com.example.HireTrack.model.ApplicationStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.Entity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-process read-through cache for per-user application pages.
+ * Entries are keyed by user email, the user's generation, optional status, page position and response
+ * shape. Whenever one of a user's applications changes, the user moves to a new generation, which
+ * invalidates all of their pages at once; the old pages are never read again and age out of the cache.
+ * Hit/miss/eviction counts are published as the "applications" cache metrics.
+ */
+@Component
+@Slf4j
+public class ApplicationListCache {
+
+    public static final String CACHE_NAME = "applications";
+
+    private final Cache<Key, CursorPage<?>> cache;
+    // Current generation per user. Generations come from one counter, so a user whose entry was evicted gets
+    // a generation none of their cached pages have.
+    private final Cache<String, Long> generations;
+    private final AtomicLong nextGeneration = new AtomicLong();
+
+    public ApplicationListCache(@Value("${app.cache.applications.max-size:10000}") long maxSize,
+                                @Value("${app.cache.applications.ttl:5m}") Duration ttl,
+                                MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(ttl)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * The cached page of the given shape, loaded on a miss. Pages are shared by every caller, so their items
+     * must be immutable: projections or value objects, never entities.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CursorPage<T> get(String userEmail, ApplicationStatus status, String cursor, int size, Class<T> type,
+                                 Supplier<CursorPage<T>> loader) {
+        if (type.isAnnotationPresent(Entity.class)) {
+            throw new IllegalArgumentException("Cannot cache pages of " + type.getSimpleName() + " entities");
+        }
+        // The key includes the type, so a cached page always holds items of the requested type
+        long generation = generations.get(userEmail, email -> nextGeneration.incrementAndGet());
+        return (CursorPage<T>) cache.get(new Key(userEmail, generation, status, cursor, size, type),
+                key -> loader.get());
+    }
+
+    /**
+     * Drop every cached page of the given user. When called inside a transaction the eviction is
+     * repeated after completion, so a concurrent reader cannot re-populate the cache with rows
+     * from before the commit.
+     */
+    public void evictUser(String userEmail) {
+        evictNow(userEmail);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(userEmail);
+                }
+            });
+        }
+    }
+
+    /**
+     * Drop every cached page, e.g. when changes made on other replicas may have been missed
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+        generations.invalidateAll();
+        log.debug("Evicted all cached application pages");
+    }
+
+    private void evictNow(String userEmail) {
+        generations.put(userEmail, nextGeneration.incrementAndGet());
+        log.debug("Evicted cached application pages for user: {}", userEmail);
+    }
+
+    private record Key(String userEmail, long generation, ApplicationStatus status, String cursor, int size,
+                       Class<?> type) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.HireTrack.controller;
+
+import com.example.HireTrack.dto.CursorPage;
+import com.example.HireTrack.model.ApplicationKeyset;
+import com.example.HireTrack.model.User;
+import com.example.HireTrack.model.Versioned;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ETags derived from entity versions. A single resource's ETag is its version; a page's ETag is a
+ * digest of the ids and versions of its items and its cursor, so it changes whenever an item on the
+ * page is updated, added or removed.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Versioned entity) {
+        return "\"" + entity.getVersion() + "\"";
+    }
+
+    static String of(CursorPage<?> page) {
+        StringBuilder state = new StringBuilder();
+        for (Object item : page.items()) {
+            state.append(idOf(item)).append(':')
+                    .append(item instanceof Versioned versioned ? versioned.getVersion() : null).append(';');
+        }
+        state.append(page.nextCursor());
+        return "\"" + DigestUtils.md5DigestAsHex(state.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * The version an If-Match header expects, or null when the header is absent or "*" (any version)
+     *
+     * @throws IllegalArgumentException if the header is not an ETag produced by {@link #of(Versioned)}
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.parseLong(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header: " + ifMatch, e);
+        }
+    }
+
+    private static Object idOf(Object item) {
+        if (item instanceof ApplicationKeyset application) {
+            return application.getId();
+        }
+        if (item instanceof User user) {
+            return user.getEmail();
+        }
+        return item;
+    }
+}
@@ -1,28 +1,47 @@
 package com.example.HireTrack.controller;
 
+import com.example.HireTrack.dto.ApplicationFields;
+import com.example.HireTrack.dto.ApplicationStats;
+import com.example.HireTrack.dto.BatchItemResult;
+import com.example.HireTrack.dto.CursorPage;
+import com.example.HireTrack.dto.DateBucket;
+import com.example.HireTrack.dto.ExportFormat;
+import com.example.HireTrack.dto.ExportJobStatus;
+import com.example.HireTrack.dto.StatusUpdate;
+import com.example.HireTrack.event.ApplicationChangeEvent;
+import com.example.HireTrack.event.ApplicationChangeHub;
+import com.example.HireTrack.model.ApplicationKeyset;
 import com.example.HireTrack.model.ApplicationStatus;
 import com.example.HireTrack.model.JobApplication;
+import com.example.HireTrack.service.ExportJobService;
 import com.example.HireTrack.service.ExportService;
 import com.example.HireTrack.service.JobApplicationService;
 import com.example.HireTrack.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -32,62 +51,99 @@ import java.util.UUID;
 @Tag(name = "Job Applications", description = "API endpoints for managing job applications")
 public class JobApplicationController {
     
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_STATS_TOP = 100;
+    
     private final JobApplicationService service;
     private final ExportService exportService;
+    private final ExportJobService exportJobService;
     private final UserService userService;
+    private final ApplicationChangeHub changeHub;
     
     // 1. Get all applications in database
     @Operation(
             summary = "Get all applications",
-            description = "Retrieve a paginated list of all job applications in the database, regardless of user"
+            description = "Retrieve a cursor-paginated list of all job applications in the database, regardless of user, " +
+                    "newest applied date first. Pass the returned nextCursor to fetch the following page."
     )
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved all applications",
-            content = @Content(mediaType = "application/json",
-                    schema = @Schema(implementation = JobApplication.class)))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved all applications",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or fields value")
+    })
     @GetMapping("/all")
-    public ResponseEntity<Page<JobApplication>> getAllApplications(
-            @Parameter(description = "Page number (0-indexed)", example = "0")
-            @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Number of items per page", example = "10")
-            @RequestParam(defaultValue = "10") int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(service.getAllApplications(pageable));
+    public ResponseEntity<CursorPage<? extends ApplicationKeyset>> getAllApplications(
+            @Parameter(description = "Continuation token from a previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of items per page (max " + CursorPage.MAX_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size,
+            @Parameter(description = "Response shape: full (every field) or summary (id, company, position, status, appliedDate)",
+                    schema = @Schema(type = "string", allowableValues = {"full", "summary"}))
+            @RequestParam(defaultValue = "full") String fields) {
+        try {
+            return withETag(service.getAllApplications(cursor, CursorPage.boundedSize(size), shape(fields)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     // 2. Get all applications for a specific user
     @Operation(
             summary = "Get all applications for a user",
-            description = "Retrieve all job applications for a specific user"
+            description = "Retrieve a cursor-paginated list of job applications for a specific user"
     )
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved user's applications",
-            content = @Content(mediaType = "application/json",
-                    schema = @Schema(implementation = JobApplication.class)))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved user's applications",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or fields value")
+    })
     @GetMapping("/user/{userEmail}")
-    public ResponseEntity<List<JobApplication>> getAllApplicationsByUser(
+    public ResponseEntity<CursorPage<? extends ApplicationKeyset>> getAllApplicationsByUser(
             @Parameter(description = "User's email address", required = true)
-            @PathVariable String userEmail) {
-        return ResponseEntity.ok(service.getAllApplicationsByUser(userEmail));
+            @PathVariable String userEmail,
+            @Parameter(description = "Continuation token from a previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of items per page (max " + CursorPage.MAX_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size,
+            @Parameter(description = "Response shape: full (every field) or summary (id, company, position, status, appliedDate)",
+                    schema = @Schema(type = "string", allowableValues = {"full", "summary"}))
+            @RequestParam(defaultValue = "full") String fields) {
+        try {
+            return withETag(service.getAllApplicationsByUser(userEmail, cursor, CursorPage.boundedSize(size), shape(fields)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     // 3. Get all applications with a particular status
     @Operation(
             summary = "Get all applications by status",
-            description = "Retrieve all job applications with a specific status, regardless of user"
+            description = "Retrieve a cursor-paginated list of job applications with a specific status, regardless of user"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved applications",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = JobApplication.class))),
-            @ApiResponse(responseCode = "400", description = "Invalid status value")
+                            schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid status, cursor or fields value")
     })
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<JobApplication>> getAllApplicationsByStatus(
+    public ResponseEntity<CursorPage<? extends ApplicationKeyset>> getAllApplicationsByStatus(
             @Parameter(description = "Application status", required = true,
                     schema = @Schema(type = "string", allowableValues = {"APPLIED", "INTERVIEW", "REJECTED", "OFFERED", "HIRED"}))
-            @PathVariable String status) {
+            @PathVariable String status,
+            @Parameter(description = "Continuation token from a previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of items per page (max " + CursorPage.MAX_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size,
+            @Parameter(description = "Response shape: full (every field) or summary (id, company, position, status, appliedDate)",
+                    schema = @Schema(type = "string", allowableValues = {"full", "summary"}))
+            @RequestParam(defaultValue = "full") String fields) {
         try {
             ApplicationStatus applicationStatus = ApplicationStatus.valueOf(status.toUpperCase());
-            return ResponseEntity.ok(service.getAllApplicationsByStatus(applicationStatus));
+            return withETag(service.getAllApplicationsByStatus(applicationStatus, cursor, CursorPage.boundedSize(size),
+                    shape(fields)));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -96,24 +152,32 @@ public class JobApplicationController {
     // 4. Get all applications of a user with a particular status
     @Operation(
             summary = "Get user applications by status",
-            description = "Retrieve all job applications for a specific user with a particular status"
+            description = "Retrieve a cursor-paginated list of job applications for a specific user with a particular status"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved applications",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = JobApplication.class))),
-            @ApiResponse(responseCode = "400", description = "Invalid status value")
+                            schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid status, cursor or fields value")
     })
     @GetMapping("/user/{userEmail}/status/{status}")
-    public ResponseEntity<List<JobApplication>> getUserApplicationsByStatus(
+    public ResponseEntity<CursorPage<? extends ApplicationKeyset>> getUserApplicationsByStatus(
             @Parameter(description = "User's email address", required = true)
             @PathVariable String userEmail,
             @Parameter(description = "Application status", required = true,
                     schema = @Schema(type = "string", allowableValues = {"APPLIED", "INTERVIEW", "REJECTED", "OFFERED", "HIRED"}))
-            @PathVariable String status) {
+            @PathVariable String status,
+            @Parameter(description = "Continuation token from a previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of items per page (max " + CursorPage.MAX_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size,
+            @Parameter(description = "Response shape: full (every field) or summary (id, company, position, status, appliedDate)",
+                    schema = @Schema(type = "string", allowableValues = {"full", "summary"}))
+            @RequestParam(defaultValue = "full") String fields) {
         try {
             ApplicationStatus applicationStatus = ApplicationStatus.valueOf(status.toUpperCase());
-            return ResponseEntity.ok(service.getUserApplicationsByStatus(userEmail, applicationStatus));
+            return withETag(service.getUserApplicationsByStatus(userEmail, applicationStatus,
+                    cursor, CursorPage.boundedSize(size), shape(fields)));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -153,8 +217,10 @@ public class JobApplicationController {
             @ApiResponse(responseCode = "200", description = "Status updated successfully",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = JobApplication.class))),
-            @ApiResponse(responseCode = "400", description = "Invalid status value"),
-            @ApiResponse(responseCode = "404", description = "Application not found")
+            @ApiResponse(responseCode = "400", description = "Invalid status value or If-Match header"),
+            @ApiResponse(responseCode = "404", description = "Application not found"),
+            @ApiResponse(responseCode = "409", description = "Application was modified concurrently"),
+            @ApiResponse(responseCode = "412", description = "Application no longer matches the If-Match ETag")
     })
     @PatchMapping("/{id}/status")
     public ResponseEntity<JobApplication> updateApplicationStatus(
@@ -164,13 +230,18 @@ public class JobApplicationController {
                     schema = @Schema(type = "string", allowableValues = {"APPLIED", "INTERVIEW", "REJECTED", "OFFERED", "HIRED"}))
             @RequestParam String status,
             @Parameter(description = "User's email address", required = true)
-            @RequestParam String userEmail) {
+            @RequestParam String userEmail,
+            @Parameter(description = "Only update if the application still has this ETag (from a previous GET)")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
             ApplicationStatus applicationStatus = ApplicationStatus.valueOf(status.toUpperCase());
-            JobApplication updated = service.updateApplicationStatus(id, applicationStatus, userEmail);
-            return ResponseEntity.ok(updated);
+            JobApplication updated = service.updateApplicationStatus(id, applicationStatus, userEmail,
+                    ETags.expectedVersion(ifMatch));
+            return ResponseEntity.ok().eTag(ETags.of(updated)).body(updated);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(ifMatch != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -199,6 +270,82 @@ public class JobApplicationController {
         }
     }
     
+    // 9. Create many applications for a user
+    @Operation(
+            summary = "Create job applications in bulk",
+            description = "Create up to " + MAX_BATCH_SIZE + " job applications for a user in one request and one transaction. " +
+                    "Returns one result per item, in request order."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = BatchItemResult.class)))),
+            @ApiResponse(responseCode = "400", description = "Batch too large or user not found")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResult>> createApplications(
+            @Parameter(description = "Job applications to create", required = true)
+            @RequestBody List<JobApplication> applications,
+            @Parameter(description = "User's email address", required = true)
+            @RequestParam String userEmail) {
+        if (applications.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(service.createApplications(applications, userEmail));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // 10. Update the status of many applications of a user
+    @Operation(
+            summary = "Update application statuses in bulk",
+            description = "Update the status of up to " + MAX_BATCH_SIZE + " job applications owned by a user in one request " +
+                    "and one transaction. Returns one result per item, in request order."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = BatchItemResult.class)))),
+            @ApiResponse(responseCode = "400", description = "Batch too large")
+    })
+    @PatchMapping("/batch/status")
+    public ResponseEntity<List<BatchItemResult>> updateApplicationStatuses(
+            @Parameter(description = "Status updates", required = true)
+            @RequestBody List<StatusUpdate> updates,
+            @Parameter(description = "User's email address", required = true)
+            @RequestParam String userEmail) {
+        if (updates.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(service.updateApplicationStatuses(updates, userEmail));
+    }
+    
+    // 11. Delete many applications of a user
+    @Operation(
+            summary = "Delete job applications in bulk",
+            description = "Delete up to " + MAX_BATCH_SIZE + " job applications owned by a user with a single DELETE statement. " +
+                    "Returns one result per item, in request order."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = BatchItemResult.class)))),
+            @ApiResponse(responseCode = "400", description = "Batch too large")
+    })
+    @PostMapping("/batch/delete")
+    public ResponseEntity<List<BatchItemResult>> deleteApplications(
+            @Parameter(description = "UUIDs of the applications to delete", required = true)
+            @RequestBody List<UUID> ids,
+            @Parameter(description = "User's email address", required = true)
+            @RequestParam String userEmail) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(service.deleteApplications(ids, userEmail));
+    }
+    
     // 8. Export user applications as CSV
     @Operation(
             summary = "Export user applications as CSV",
@@ -210,27 +357,312 @@ public class JobApplicationController {
             @ApiResponse(responseCode = "404", description = "User not found")
     })
     @GetMapping("/user/{userEmail}/export/csv")
-    public ResponseEntity<byte[]> exportUserApplicationsAsCSV(
+    public ResponseEntity<StreamingResponseBody> exportUserApplicationsAsCSV(
             @Parameter(description = "User's email address", required = true)
             @PathVariable String userEmail) {
+        if (!userService.userExists(userEmail)) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(new MediaType("text", "csv", StandardCharsets.UTF_8));
+        headers.setContentDispositionFormData("attachment", 
+                "job_applications_" + userEmail.replace("@", "_") + ".csv");
+        
+        // Rows are written to the response as they are read, instead of being buffered in memory
+        StreamingResponseBody body = out -> exportService.streamCSV(userEmail, out);
+        
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(body);
+    }
+    
+    // 12. Get aggregate application stats
+    @Operation(
+            summary = "Get application stats",
+            description = "Count applications per status, per company and per applied-date bucket, and per user for " +
+                    "global stats. Counting happens in the database; only the top groups are returned."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully computed stats",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ApplicationStats.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid bucket or top value"),
+            @ApiResponse(responseCode = "404", description = "User not found")
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<ApplicationStats> getStats(
+            @Parameter(description = "Scope the stats to one user (omit for global stats)")
+            @RequestParam(required = false) String userEmail,
+            @Parameter(description = "Granularity of the applied-date buckets: DAY (last 30 days), WEEK (last 12 weeks) " +
+                    "or MONTH (last 12 months)",
+                    schema = @Schema(type = "string", allowableValues = {"DAY", "WEEK", "MONTH"}))
+            @RequestParam(defaultValue = "MONTH") String bucket,
+            @Parameter(description = "Number of users and companies to return (max " + MAX_STATS_TOP + ")", example = "10")
+            @RequestParam(defaultValue = "10") int top) {
+        if (top < 1 || top > MAX_STATS_TOP) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (userEmail != null && !userService.userExists(userEmail)) {
+            return ResponseEntity.notFound().build();
+        }
         try {
-            var user = userService.getUserByEmail(userEmail)
-                    .orElseThrow(() -> new RuntimeException("User not found: " + userEmail));
-            
-            List<JobApplication> applications = service.getAllApplicationsByUser(userEmail);
-            byte[] csvData = exportService.exportToCSV(user, applications);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("text/csv"));
-            headers.setContentDispositionFormData("attachment", 
-                    "job_applications_" + userEmail.replace("@", "_") + ".csv");
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(csvData);
-        } catch (RuntimeException e) {
+            DateBucket dateBucket = DateBucket.valueOf(bucket.toUpperCase());
+            return ResponseEntity.ok(service.getStats(userEmail, dateBucket, top));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // 13. Search applications of a user
+    @Operation(
+            summary = "Search user applications",
+            description = "Full-text search over company, position and notes of a user's job applications, best match " +
+                    "first. Supports web-search syntax: quoted phrases, OR, and -word to exclude. Cursor-paginated."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully searched applications",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Missing query, or invalid cursor or fields value")
+    })
+    @GetMapping("/user/{userEmail}/search")
+    public ResponseEntity<CursorPage<? extends ApplicationKeyset>> searchApplications(
+            @Parameter(description = "User's email address", required = true)
+            @PathVariable String userEmail,
+            @Parameter(description = "Search terms", required = true, example = "backend engineer referral")
+            @RequestParam String q,
+            @Parameter(description = "Continuation token from a previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of items per page (max " + CursorPage.MAX_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size,
+            @Parameter(description = "Response shape: full (every field) or summary (id, company, position, status, appliedDate)",
+                    schema = @Schema(type = "string", allowableValues = {"full", "summary"}))
+            @RequestParam(defaultValue = "full") String fields) {
+        try {
+            return withETag(service.searchApplications(userEmail, q, cursor, CursorPage.boundedSize(size),
+                    shape(fields)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // 14. Get a single application of a user
+    @Operation(
+            summary = "Get an application",
+            description = "Retrieve one job application of a user. The response carries an ETag; send it back in " +
+                    "If-None-Match to get an empty 304 while the application is unchanged."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Application found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = JobApplication.class))),
+            @ApiResponse(responseCode = "304", description = "Application unchanged since the If-None-Match ETag"),
+            @ApiResponse(responseCode = "404", description = "Application not found")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<JobApplication> getApplication(
+            @Parameter(description = "Application UUID", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "User's email address", required = true)
+            @RequestParam String userEmail) {
+        return service.getApplication(id, userEmail)
+                .map(application -> ResponseEntity.ok().eTag(ETags.of(application)).body(application))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    // 15. Stream changes to a user's applications
+    @Operation(
+            summary = "Stream application changes",
+            description = "Server-sent event stream of changes to a user's job applications, made through any " +
+                    "instance. Events are named CREATED, STATUS_UPDATED or DELETED. A RESYNC event means many " +
+                    "applications changed at once (batch endpoints) or changes may have been missed, and the client " +
+                    "should reload the applications."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = ApplicationChangeEvent.class))),
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "503", description = "Too many open event streams")
+    })
+    @GetMapping(value = "/user/{userEmail}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamApplicationChanges(
+            @Parameter(description = "User's email address", required = true)
+            @PathVariable String userEmail) {
+        if (!userService.userExists(userEmail)) {
             return ResponseEntity.notFound().build();
         }
+        try {
+            return ResponseEntity.ok(changeHub.subscribe(userEmail));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
+    // 16. Start an asynchronous CSV export of a user's applications
+    @Operation(
+            summary = "Start an export job",
+            description = "Render all job applications of a user to a CSV file in the background. Poll the job URL " +
+                    "in the Location header until it is COMPLETED, then download the file. A user has at most one " +
+                    "unfinished job; submitting again returns it."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Export job accepted",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExportJobStatus.class))),
+            @ApiResponse(responseCode = "404", description = "User not found")
+    })
+    @PostMapping("/user/{userEmail}/export/jobs")
+    public ResponseEntity<ExportJobStatus> submitExportJob(
+            @Parameter(description = "User's email address", required = true)
+            @PathVariable String userEmail) {
+        if (!userService.userExists(userEmail)) {
+            return ResponseEntity.notFound().build();
+        }
+        ExportJobStatus job = exportJobService.submit(userEmail);
+        URI location = UriComponentsBuilder.fromPath("/api/applications/user/{userEmail}/export/jobs/{jobId}")
+                .buildAndExpand(userEmail, job.id())
+                .encode()
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+    
+    // 17. Get the state of an export job
+    @Operation(
+            summary = "Get an export job",
+            description = "Poll the state of an export job. Jobs are removed, with their file, some time after they finish."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export job found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExportJobStatus.class))),
+            @ApiResponse(responseCode = "404", description = "Export job not found or expired")
+    })
+    @GetMapping("/user/{userEmail}/export/jobs/{jobId}")
+    public ResponseEntity<ExportJobStatus> getExportJob(
+            @Parameter(description = "User's email address", required = true)
+            @PathVariable String userEmail,
+            @Parameter(description = "Export job UUID", required = true)
+            @PathVariable UUID jobId) {
+        return exportJobService.getStatus(jobId, userEmail)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    // 18. Download the file of a completed export job
+    @Operation(
+            summary = "Download an export",
+            description = "Download the CSV file of a completed export job. Supports Range requests, so an " +
+                    "interrupted download can be resumed from where it stopped."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "CSV file",
+                    content = @Content(mediaType = "text/csv")),
+            @ApiResponse(responseCode = "206", description = "Requested byte range of the CSV file"),
+            @ApiResponse(responseCode = "404", description = "Export job not found or expired"),
+            @ApiResponse(responseCode = "409", description = "Export job has not completed"),
+            @ApiResponse(responseCode = "416", description = "Requested range not satisfiable")
+    })
+    @GetMapping("/user/{userEmail}/export/jobs/{jobId}/download")
+    public ResponseEntity<Resource> downloadExport(
+            @Parameter(description = "User's email address", required = true)
+            @PathVariable String userEmail,
+            @Parameter(description = "Export job UUID", required = true)
+            @PathVariable UUID jobId) {
+        Optional<ExportJobStatus> job = exportJobService.getStatus(jobId, userEmail);
+        if (job.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (job.get().state() != ExportJobStatus.State.COMPLETED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        // Empty if the job expired meanwhile or its file is not reachable from this instance
+        Optional<Resource> file = exportJobService.getDownload(jobId, userEmail);
+        if (file.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        // Spring MVC answers Range requests for Resource bodies with 206 and only the requested bytes.
+        // A job's file never changes, so the job id serves as its ETag.
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("job_applications_" + userEmail.replace("@", "_") + ".csv")
+                        .build()
+                        .toString())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .eTag("\"" + jobId + "\"")
+                .body(file.get());
+    }
+    
+    // 19. Export user applications in a negotiated format
+    @Operation(
+            summary = "Export user applications",
+            description = "Export all job applications of a user in the format chosen by the Accept header: text/csv " +
+                    "(the default) or application/x-ndjson (one JSON object per line). With Accept-Encoding: gzip the " +
+                    "file is compressed while it is written and sent with Content-Encoding: gzip."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export generated successfully",
+                    content = {@Content(mediaType = "text/csv"), @Content(mediaType = "application/x-ndjson")}),
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "406", description = "None of the accepted media types can be produced")
+    })
+    @GetMapping("/user/{userEmail}/export")
+    public ResponseEntity<StreamingResponseBody> exportUserApplications(
+            @Parameter(description = "User's email address", required = true)
+            @PathVariable String userEmail,
+            @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = MediaType.ALL_VALUE) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, defaultValue = "") String acceptEncoding) {
+        Optional<ExportFormat> negotiated;
+        try {
+            negotiated = ExportFormat.negotiate(MediaType.parseMediaTypes(accept));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (negotiated.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+        }
+        if (!userService.userExists(userEmail)) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        ExportFormat format = negotiated.get();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(format.mediaType());
+        headers.setContentDispositionFormData("attachment",
+                "job_applications_" + userEmail.replace("@", "_") + "." + format.extension());
+        headers.setVary(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING));
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        
+        StreamingResponseBody body = out -> exportService.export(userEmail, format, gzip, out);
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(body);
+    }
+    
+    // Pages carry an ETag of their contents; Spring MVC answers a matching If-None-Match with 304 and no body
+    private static <T extends CursorPage<?>> ResponseEntity<T> withETag(T page) {
+        return ResponseEntity.ok().eTag(ETags.of(page)).body(page);
+    }
+    
+    // Whether an Accept-Encoding header allows gzip (listed without q=0)
+    private static boolean acceptsGzip(String acceptEncoding) {
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+    
+    // Item type of a listing for the fields= parameter; throws IllegalArgumentException for unknown values
+    private static Class<? extends ApplicationKeyset> shape(String fields) {
+        return ApplicationFields.valueOf(fields.toUpperCase()).type();
     }
 }
-
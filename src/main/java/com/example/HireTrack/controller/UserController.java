@@ -1,5 +1,6 @@
 package com.example.HireTrack.controller;
 
+import com.example.HireTrack.dto.CursorPage;
 import com.example.HireTrack.model.User;
 import com.example.HireTrack.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,9 +11,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -28,19 +28,27 @@ public class UserController {
     
     @Operation(
             summary = "Get all users",
-            description = "Retrieve a paginated list of all registered users"
+            description = "Retrieve a cursor-paginated list of all registered users, ordered by email. " +
+                    "Pass the returned nextCursor to fetch the following page."
     )
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved users",
-            content = @Content(mediaType = "application/json",
-                    schema = @Schema(implementation = User.class)))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved users",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
     @GetMapping
-    public ResponseEntity<Page<User>> getAllUsers(
-            @Parameter(description = "Page number (0-indexed)", example = "0")
-            @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Number of items per page", example = "10")
-            @RequestParam(defaultValue = "10") int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(service.getAllUsers(pageable));
+    public ResponseEntity<CursorPage<User>> getAllUsers(
+            @Parameter(description = "Continuation token from a previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of items per page (max " + CursorPage.MAX_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size) {
+        try {
+            CursorPage<User> page = service.getAllUsers(cursor, CursorPage.boundedSize(size));
+            return ResponseEntity.ok().eTag(ETags.of(page)).body(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     @Operation(
@@ -51,6 +59,7 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "User found",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = User.class))),
+            @ApiResponse(responseCode = "304", description = "User unchanged since the If-None-Match ETag"),
             @ApiResponse(responseCode = "404", description = "User not found")
     })
     @GetMapping("/{email}")
@@ -58,7 +67,7 @@ public class UserController {
             @Parameter(description = "User's email address", required = true)
             @PathVariable String email) {
         return service.getUserByEmail(email)
-                .map(ResponseEntity::ok)
+                .map(user -> ResponseEntity.ok().eTag(ETags.of(user)).body(user))
                 .orElse(ResponseEntity.notFound().build());
     }
     
@@ -92,17 +101,26 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "User updated successfully",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = User.class))),
-            @ApiResponse(responseCode = "404", description = "User not found")
+            @ApiResponse(responseCode = "400", description = "Invalid If-Match header"),
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "409", description = "User was modified concurrently"),
+            @ApiResponse(responseCode = "412", description = "User no longer matches the If-Match ETag")
     })
     @PutMapping("/{email}")
     public ResponseEntity<User> updateUser(
             @Parameter(description = "User's email address", required = true)
             @PathVariable String email,
             @Parameter(description = "Updated user details", required = true)
-            @RequestBody User user) {
+            @RequestBody User user,
+            @Parameter(description = "Only update if the user still has this ETag (from a previous GET)")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            User updated = service.updateUser(email, user);
-            return ResponseEntity.ok(updated);
+            User updated = service.updateUser(email, user, ETags.expectedVersion(ifMatch));
+            return ResponseEntity.ok().eTag(ETags.of(updated)).body(updated);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(ifMatch != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -0,0 +1,70 @@
+package com.example.HireTrack.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Keeps replica reads consistent for users who just wrote. Users whose writes committed within the
+ * staleness window have their read-only transactions sent to the primary instead of a replica, which may
+ * not have replayed those writes yet. Other users' reads are unaffected.
+ */
+@Component
+public class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+    private static final long MAX_TRACKED_USERS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(@Value("${app.datasource.replicas.max-staleness:5s}") Duration maxStaleness) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_USERS)
+                .expireAfterWrite(maxStaleness)
+                .build();
+    }
+
+    /**
+     * Record that the user wrote; inside a transaction the window starts once it commits
+     */
+    public void recordWrite(String userEmail) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recentWriters.put(userEmail, Boolean.TRUE);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userEmail, Boolean.TRUE);
+            }
+        });
+    }
+
+    /**
+     * Declare that the current transaction reads the user's data; if the user wrote within the window,
+     * the transaction reads from the primary. Must be called before the transaction's first query.
+     */
+    public void readingFor(String userEmail) {
+        if (userEmail == null || PRIMARY_REQUIRED.get() != null
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || recentWriters.getIfPresent(userEmail) == null) {
+            return;
+        }
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                PRIMARY_REQUIRED.remove();
+            }
+        });
+    }
+
+    static boolean primaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+}
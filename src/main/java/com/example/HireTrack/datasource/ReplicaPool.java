@@ -0,0 +1,122 @@
+package com.example.HireTrack.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection pools for the read replicas, handed out round-robin among the healthy ones.
+ * A replica is healthy while it answers the periodic probe and its replay lag is within maxLag;
+ * one that fails to hand out a connection is taken out of rotation until the next successful probe.
+ */
+@Slf4j
+public class ReplicaPool implements AutoCloseable {
+
+    // 0 on a caught-up standby (or a stand-alone server), otherwise seconds since the last replayed commit
+    private static final String LAG_QUERY = """
+            SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END""";
+    private static final int PROBE_TIMEOUT_SECONDS = 2;
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPool(List<String> urls, String username, String password, int poolSize,
+                       Duration connectionTimeout, Duration maxLag) {
+        this.maxLag = maxLag;
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(urls.get(i));
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(poolSize);
+            config.setConnectionTimeout(connectionTimeout.toMillis());
+            config.setReadOnly(true);
+            // A replica that is down at startup must not keep the application from starting
+            config.setInitializationFailTimeout(-1);
+            replicas.add(new Replica(new HikariDataSource(config)));
+        }
+    }
+
+    /**
+     * The next healthy replica, or null if none is healthy
+     */
+    HikariDataSource next() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica.dataSource;
+            }
+        }
+        return null;
+    }
+
+    void markDown(HikariDataSource dataSource, SQLException cause) {
+        for (Replica replica : replicas) {
+            if (replica.dataSource == dataSource && replica.healthy) {
+                replica.healthy = false;
+                log.warn("Replica {} failed to hand out a connection, reading from the primary until it recovers",
+                        dataSource.getPoolName(), cause);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy = probe(replica.dataSource);
+            if (healthy != replica.healthy) {
+                log.info("Replica {} is now {}", replica.dataSource.getPoolName(), healthy ? "in rotation" : "out of rotation");
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    private boolean probe(HikariDataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(PROBE_TIMEOUT_SECONDS);
+            try (ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                rs.next();
+                double lagSeconds = rs.getDouble(1);
+                if (lagSeconds * 1000 > maxLag.toMillis()) {
+                    log.warn("Replica {} is {} s behind the primary", dataSource.getPoolName(), lagSeconds);
+                    return false;
+                }
+                return true;
+            }
+        } catch (SQLException e) {
+            log.warn("Replica {} failed its health check: {}", dataSource.getPoolName(), e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.HireTrack.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Sends read-only transactions to the read replicas when app.datasource.replicas.enabled is set.
+ * Spring Boot backs off from its own DataSource once one is defined here, so the primary pool is built
+ * here too, from the same spring.datasource.* settings.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    // Spring Boot only defines this alongside its own DataSource; the change listener needs it
+    @Bean
+    @ConditionalOnMissingBean
+    public JdbcConnectionDetails jdbcConnectionDetails(DataSourceProperties properties) {
+        return new JdbcConnectionDetails() {
+            @Override
+            public String getUsername() {
+                return properties.determineUsername();
+            }
+
+            @Override
+            public String getPassword() {
+                return properties.determinePassword();
+            }
+
+            @Override
+            public String getJdbcUrl() {
+                return properties.determineUrl();
+            }
+
+            @Override
+            public String getDriverClassName() {
+                return properties.determineDriverClassName();
+            }
+        };
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(JdbcConnectionDetails connectionDetails) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(connectionDetails.getDriverClassName())
+                .url(connectionDetails.getJdbcUrl())
+                .username(connectionDetails.getUsername())
+                .password(connectionDetails.getPassword())
+                .build();
+    }
+
+    @Bean
+    public ReplicaPool replicaPool(@Value("${app.datasource.replicas.urls}") List<String> urls,
+                                   @Value("${app.datasource.replicas.username}") String username,
+                                   @Value("${app.datasource.replicas.password}") String password,
+                                   @Value("${app.datasource.replicas.pool-size:10}") int poolSize,
+                                   @Value("${app.datasource.replicas.connection-timeout:2s}") Duration connectionTimeout,
+                                   @Value("${app.datasource.replicas.max-lag:5s}") Duration maxLag) {
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("app.datasource.replicas.urls is required when replicas are enabled");
+        }
+        return new ReplicaPool(urls, username, password, poolSize, connectionTimeout, maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaPool) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaPool));
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.HireTrack.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Hands out replica connections to read-only transactions and primary connections to everything else.
+ * Falls back to the primary when no replica is healthy, when a replica cannot hand out a connection, and
+ * when {@link ReadYourWrites} requires the primary for the current transaction.
+ * The routing decision needs the transaction's read-only flag, which Spring only sets after the transaction
+ * has begun, so this must sit behind a LazyConnectionDataSourceProxy.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReplicaPool replicas;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaPool replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !ReadYourWrites.primaryRequired()) {
+            HikariDataSource replica = replicas.next();
+            if (replica != null) {
+                try {
+                    return replica.getConnection();
+                } catch (SQLException e) {
+                    replicas.markDown(replica, e);
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+}
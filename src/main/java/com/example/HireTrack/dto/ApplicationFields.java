@@ -0,0 +1,21 @@
+package com.example.HireTrack.dto;
+
+import com.example.HireTrack.model.ApplicationKeyset;
+
+/**
+ * Response shape of application listings, chosen with the fields= request parameter
+ */
+public enum ApplicationFields {
+    SUMMARY(JobApplicationSummary.class),
+    FULL(JobApplicationView.class);
+
+    private final Class<? extends ApplicationKeyset> type;
+
+    ApplicationFields(Class<? extends ApplicationKeyset> type) {
+        this.type = type;
+    }
+
+    public Class<? extends ApplicationKeyset> type() {
+        return type;
+    }
+}
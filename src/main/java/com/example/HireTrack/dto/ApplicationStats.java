@@ -0,0 +1,27 @@
+package com.example.HireTrack.dto;
+
+import com.example.HireTrack.model.ApplicationStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Application funnel counts, computed in the database")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ApplicationStats(
+        @Schema(description = "User the stats are scoped to (absent for global stats)", example = "john.doe@example.com")
+        String userEmail,
+        @Schema(description = "Total number of applications", example = "120")
+        long total,
+        @Schema(description = "Number of applications per status (every status is present)")
+        Map<ApplicationStatus, Long> byStatus,
+        @Schema(description = "Users with the most applications (global stats only)")
+        List<LabelCount> byUser,
+        @Schema(description = "Companies with the most applications")
+        List<LabelCount> byCompany,
+        @Schema(description = "Granularity of the appliedDate buckets", example = "MONTH")
+        DateBucket dateBucket,
+        @Schema(description = "Applications per appliedDate bucket, oldest first; label is the bucket's first day")
+        List<LabelCount> byAppliedDate) {
+}
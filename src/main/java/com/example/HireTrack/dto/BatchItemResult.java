@@ -0,0 +1,27 @@
+package com.example.HireTrack.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Outcome of one item of a batch request")
+public record BatchItemResult(
+        @Schema(description = "Position of the item in the request array", example = "0")
+        int index,
+        @Schema(description = "Application UUID (null if the item was rejected before an id was assigned)",
+                example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID id,
+        @Schema(description = "HTTP-style status of the item (201 created, 200 updated, 204 deleted, 400 invalid, 404 not found)",
+                example = "201")
+        int status,
+        @Schema(description = "Why the item failed, if it did")
+        String error) {
+
+    public static BatchItemResult ok(int index, UUID id, int status) {
+        return new BatchItemResult(index, id, status, null);
+    }
+
+    public static BatchItemResult failed(int index, UUID id, int status, String error) {
+        return new BatchItemResult(index, id, status, error);
+    }
+}
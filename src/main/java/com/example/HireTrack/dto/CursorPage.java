@@ -0,0 +1,40 @@
+package com.example.HireTrack.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Schema(description = "A page of results from a cursor (keyset) paginated listing")
+public record CursorPage<T>(
+        @Schema(description = "Items on this page")
+        List<T> items,
+        @Schema(description = "Opaque token to pass as 'cursor' to fetch the next page; null on the last page",
+                example = "MjAyNC0wMS0xNXw1NTBlODQwMC1lMjliLTQxZDQtYTcxNi00NDY2NTU0NDAwMDA")
+        String nextCursor,
+        @Schema(description = "Whether more items follow this page")
+        boolean hasNext) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * Clamp a client-requested page size to [1, MAX_SIZE]
+     */
+    public static int boundedSize(int requested) {
+        return Math.max(1, Math.min(requested, MAX_SIZE));
+    }
+
+    public static <T> CursorPage<T> empty() {
+        return new CursorPage<>(List.of(), null, false);
+    }
+
+    public static <T> CursorPage<T> of(Window<T> window, Function<T, String> cursorOf) {
+        List<T> items = window.getContent();
+        String nextCursor = window.hasNext() && !items.isEmpty()
+                ? cursorOf.apply(items.get(items.size() - 1))
+                : null;
+        return new CursorPage<>(items, nextCursor, nextCursor != null);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.HireTrack.dto;
+
+import com.example.HireTrack.model.ApplicationKeyset;
+import com.example.HireTrack.model.User;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Encodes keyset positions as opaque continuation tokens and back.
+ * Applications seek on (appliedDate, id), users on email, search results on (rank, id).
+ */
+public final class Cursors {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String SEPARATOR = "|";
+
+    private Cursors() {
+    }
+
+    public static String applicationCursor(ApplicationKeyset application) {
+        return encode(application.getAppliedDate() + SEPARATOR + application.getId());
+    }
+
+    public static ScrollPosition applicationPosition(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        String decoded = decode(cursor);
+        int separator = decoded.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        try {
+            LocalDate appliedDate = LocalDate.parse(decoded.substring(0, separator));
+            UUID id = UUID.fromString(decoded.substring(separator + 1));
+            return ScrollPosition.forward(Map.of("appliedDate", appliedDate, "id", id));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    public static String userCursor(User user) {
+        return encode(user.getEmail());
+    }
+
+    public static ScrollPosition userPosition(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        return ScrollPosition.forward(Map.of("email", decode(cursor)));
+    }
+
+    public static String searchCursor(float rank, UUID id) {
+        return encode(rank + SEPARATOR + id);
+    }
+
+    /**
+     * Keyset of the last search match on the previous page, or null for the first page
+     */
+    public static SearchPosition searchPosition(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String decoded = decode(cursor);
+        int separator = decoded.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        try {
+            float rank = Float.parseFloat(decoded.substring(0, separator));
+            UUID id = UUID.fromString(decoded.substring(separator + 1));
+            return new SearchPosition(rank, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    public record SearchPosition(float rank, UUID id) {
+    }
+
+    private static String encode(String value) {
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.HireTrack.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Granularity of applied-date buckets in application stats, with how far back each one looks
+ */
+public enum DateBucket {
+    DAY(30),
+    WEEK(12),
+    MONTH(12);
+
+    private final int periods;
+
+    DateBucket(int periods) {
+        this.periods = periods;
+    }
+
+    /**
+     * First day included in the stats, relative to today
+     */
+    public LocalDate since(LocalDate today) {
+        return switch (this) {
+            case DAY -> today.minusDays(periods - 1L);
+            case WEEK -> today.minusWeeks(periods - 1L).with(java.time.DayOfWeek.MONDAY);
+            case MONTH -> today.minusMonths(periods - 1L).withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * Field name understood by Postgres date_trunc
+     */
+    public String truncUnit() {
+        return name().toLowerCase();
+    }
+}
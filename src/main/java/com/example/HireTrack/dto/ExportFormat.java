@@ -0,0 +1,53 @@
+package com.example.HireTrack.dto;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Format of an application export, chosen by content negotiation on the Accept header
+ */
+public enum ExportFormat {
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * First format acceptable to the client, by quality and then in the client's order; CSV if any type is accepted.
+     * Empty if the client accepts none of them.
+     */
+    public static Optional<ExportFormat> negotiate(List<MediaType> acceptable) {
+        List<MediaType> byQuality = new ArrayList<>(acceptable);
+        byQuality.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : byQuality) {
+            if (type.getQualityValue() == 0) {
+                break;
+            }
+            for (ExportFormat format : values()) {
+                if (type.isCompatibleWith(format.mediaType)) {
+                    return Optional.of(format);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.HireTrack.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Schema(description = "State of an asynchronous export job")
+public record ExportJobStatus(
+        @Schema(description = "Job id", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID id,
+        @Schema(description = "Owner of the exported applications", example = "john.doe@example.com")
+        String userEmail,
+        @Schema(description = "PENDING (queued), RUNNING, COMPLETED (ready to download) or FAILED", example = "COMPLETED")
+        State state,
+        @Schema(description = "When the job was submitted")
+        Instant submittedAt,
+        @Schema(description = "When the job finished (absent while pending or running)")
+        Instant completedAt,
+        @Schema(description = "When the job and its file are removed")
+        Instant expiresAt,
+        @Schema(description = "Size of the export file in bytes (absent until completed)", example = "1048576")
+        Long sizeBytes,
+        @Schema(description = "Why the job failed, if it did")
+        String error) {
+
+    public enum State {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
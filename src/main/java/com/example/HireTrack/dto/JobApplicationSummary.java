@@ -0,0 +1,20 @@
+package com.example.HireTrack.dto;
+
+import com.example.HireTrack.model.ApplicationKeyset;
+import com.example.HireTrack.model.ApplicationStatus;
+import com.example.HireTrack.model.Versioned;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Read-only listing projection of a job application: only these columns are selected, and no entity
+ * (or dirty-checking snapshot) is created for the row
+ */
+@Schema(description = "Job application summary (fields=summary): the listing columns and version, without notes and timestamps")
+public interface JobApplicationSummary extends ApplicationKeyset, Versioned {
+
+    String getCompany();
+
+    String getPosition();
+
+    ApplicationStatus getStatus();
+}
@@ -0,0 +1,37 @@
+package com.example.HireTrack.dto;
+
+import com.example.HireTrack.model.ApplicationKeyset;
+import com.example.HireTrack.model.ApplicationStatus;
+import com.example.HireTrack.model.JobApplication;
+import com.example.HireTrack.model.Versioned;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable copy of a job application as listed with fields=full. Listing pages are cached and shared by every
+ * caller, so they hold these instead of entities, which anyone holding one could modify.
+ */
+@Value
+@Schema(description = "Job application (fields=full): every column of the application and its version")
+public class JobApplicationView implements ApplicationKeyset, Versioned {
+
+    UUID id;
+    String company;
+    String position;
+    ApplicationStatus status;
+    LocalDate appliedDate;
+    String notes;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+    Long version;
+
+    public static JobApplicationView of(JobApplication application) {
+        return new JobApplicationView(application.getId(), application.getCompany(), application.getPosition(),
+                application.getStatus(), application.getAppliedDate(), application.getNotes(),
+                application.getCreatedAt(), application.getUpdatedAt(), application.getVersion());
+    }
+}
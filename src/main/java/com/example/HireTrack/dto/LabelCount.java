@@ -0,0 +1,15 @@
+package com.example.HireTrack.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Number of applications for one label")
+public record LabelCount(
+        @Schema(description = "User email, company name or start date of a date bucket", example = "Google")
+        String label,
+        @Schema(description = "Number of applications", example = "42")
+        long count) {
+
+    public static LabelCount of(LabelCountView view) {
+        return new LabelCount(view.getLabel(), view.getCount());
+    }
+}
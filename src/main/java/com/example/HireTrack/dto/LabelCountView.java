@@ -0,0 +1,11 @@
+package com.example.HireTrack.dto;
+
+/**
+ * Projection of a GROUP BY count keyed by a label (user email, company, date bucket)
+ */
+public interface LabelCountView {
+
+    String getLabel();
+
+    Long getCount();
+}
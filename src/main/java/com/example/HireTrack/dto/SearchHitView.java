@@ -0,0 +1,13 @@
+package com.example.HireTrack.dto;
+
+import java.util.UUID;
+
+/**
+ * Projection of a full-text search match: the application id and its relevance rank
+ */
+public interface SearchHitView {
+
+    UUID getId();
+
+    Float getRank();
+}
@@ -0,0 +1,13 @@
+package com.example.HireTrack.dto;
+
+import com.example.HireTrack.model.ApplicationStatus;
+
+/**
+ * Projection of a GROUP BY status count
+ */
+public interface StatusCountView {
+
+    ApplicationStatus getStatus();
+
+    Long getCount();
+}
@@ -0,0 +1,14 @@
+package com.example.HireTrack.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "A status change for one job application in a batch")
+public record StatusUpdate(
+        @Schema(description = "Application UUID", example = "550e8400-e29b-41d4-a716-446655440000", requiredMode = Schema.RequiredMode.REQUIRED)
+        UUID id,
+        @Schema(description = "New status", example = "INTERVIEW", requiredMode = Schema.RequiredMode.REQUIRED,
+                allowableValues = {"APPLIED", "INTERVIEW", "REJECTED", "OFFERED", "HIRED"})
+        String status) {
+}
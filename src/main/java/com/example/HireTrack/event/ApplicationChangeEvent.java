@@ -0,0 +1,49 @@
+package com.example.HireTrack.event;
+
+import com.example.HireTrack.model.ApplicationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A committed change to one of a user's applications, or RESYNC when many of them changed at once.
+ * Published by JobApplicationService, broadcast to every replica through Postgres NOTIFY and pushed to the
+ * user's event stream subscribers.
+ */
+@Schema(description = "Change to a job application, as sent on the user's event stream")
+public record ApplicationChangeEvent(
+        @Schema(description = "Owner of the application", example = "john.doe@example.com")
+        String userEmail,
+        @Schema(description = "Application that changed (absent for RESYNC)", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID applicationId,
+        @Schema(description = "Kind of change; RESYNC means reload all of the user's applications", example = "STATUS_UPDATED")
+        Type type,
+        @Schema(description = "Status after the change (absent for deletions and RESYNC)", example = "INTERVIEW")
+        ApplicationStatus status,
+        @Schema(description = "When the change was made")
+        Instant occurredAt) {
+
+    public enum Type {
+        CREATED,
+        STATUS_UPDATED,
+        DELETED,
+        RESYNC
+    }
+
+    public static ApplicationChangeEvent created(String userEmail, UUID applicationId, ApplicationStatus status) {
+        return new ApplicationChangeEvent(userEmail, applicationId, Type.CREATED, status, Instant.now());
+    }
+
+    public static ApplicationChangeEvent statusUpdated(String userEmail, UUID applicationId, ApplicationStatus status) {
+        return new ApplicationChangeEvent(userEmail, applicationId, Type.STATUS_UPDATED, status, Instant.now());
+    }
+
+    public static ApplicationChangeEvent deleted(String userEmail, UUID applicationId) {
+        return new ApplicationChangeEvent(userEmail, applicationId, Type.DELETED, null, Instant.now());
+    }
+
+    public static ApplicationChangeEvent resync(String userEmail) {
+        return new ApplicationChangeEvent(userEmail, null, Type.RESYNC, null, Instant.now());
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.HireTrack.event;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-sent event subscribers on this replica, per user. Every subscriber has a bounded queue drained
+ * by its own virtual thread, so a slow client never blocks publishers or other clients. When a client
+ * falls so far behind that its queue overflows, the queued changes are replaced by a single "RESYNC"
+ * event telling it to reload its applications.
+ */
+@Component
+@Slf4j
+public class ApplicationChangeHub {
+
+    static final String RESYNC = ApplicationChangeEvent.Type.RESYNC.name();
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final Duration timeout;
+
+    public ApplicationChangeHub(@Value("${app.events.queue-capacity:64}") int queueCapacity,
+                                @Value("${app.events.max-subscribers:1000}") int maxSubscribers,
+                                @Value("${app.events.timeout:30m}") Duration timeout) {
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Open an event stream of a user's application changes
+     *
+     * @throws IllegalStateException if this replica already serves the maximum number of streams
+     */
+    public SseEmitter subscribe(String userEmail) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("Too many event stream subscribers");
+        }
+        SseEmitter emitter = newEmitter();
+        Subscriber subscriber = new Subscriber(userEmail, emitter, new ArrayBlockingQueue<>(queueCapacity));
+        subscribers.computeIfAbsent(userEmail, email -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscriber.sender = senders.submit(() -> drain(subscriber));
+        log.debug("Event stream opened for user: {}", userEmail);
+        return emitter;
+    }
+
+    /**
+     * Queue a change for every subscriber of its user on this replica; a RESYNC replaces whatever is queued
+     */
+    public void publish(ApplicationChangeEvent event) {
+        Set<Subscriber> userSubscribers = subscribers.get(event.userEmail());
+        if (userSubscribers == null) {
+            return;
+        }
+        if (event.type() == ApplicationChangeEvent.Type.RESYNC) {
+            userSubscribers.forEach(Subscriber::resync);
+        } else {
+            userSubscribers.forEach(subscriber -> subscriber.offer(new Message(event.type().name(), event)));
+        }
+    }
+
+    /**
+     * Tell every subscriber to reload, e.g. after changes may have been missed
+     */
+    public void resyncAll() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(Subscriber::resync));
+    }
+
+    // Keeps idle connections open through proxies and detects clients that went away
+    @Scheduled(fixedDelayString = "${app.events.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(userSubscribers ->
+                userSubscribers.forEach(subscriber -> subscriber.queue.offer(Message.HEARTBEAT)));
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    // The connection to a new client; tests replace it with one that is slow to accept events
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeout.toMillis());
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (!subscriber.closed.get()) {
+                Message message = subscriber.queue.take();
+                SseEmitter.SseEventBuilder event = message == Message.HEARTBEAT
+                        ? SseEmitter.event().comment("heartbeat")
+                        : SseEmitter.event().name(message.name()).data(message.data());
+                subscriber.emitter.send(event);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Event stream for user {} closed by the client", subscriber.userEmail);
+            subscriber.emitter.completeWithError(e);
+            remove(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.computeIfPresent(subscriber.userEmail, (email, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+        subscriberCount.decrementAndGet();
+        Future<?> sender = subscriber.sender;
+        if (sender != null) {
+            sender.cancel(true);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            subscriber.emitter.complete();
+            remove(subscriber);
+        }));
+        senders.shutdownNow();
+    }
+
+    private record Message(String name, Object data) {
+
+        static final Message HEARTBEAT = new Message(null, null);
+    }
+
+    private static final class Subscriber {
+
+        final String userEmail;
+        final SseEmitter emitter;
+        final BlockingQueue<Message> queue;
+        final AtomicBoolean closed = new AtomicBoolean();
+        volatile Future<?> sender;
+
+        Subscriber(String userEmail, SseEmitter emitter, BlockingQueue<Message> queue) {
+            this.userEmail = userEmail;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        synchronized void offer(Message message) {
+            if (!queue.offer(message)) {
+                resync();
+            }
+        }
+
+        // Drop whatever is queued; the client reloads its state instead of replaying it
+        synchronized void resync() {
+            queue.clear();
+            queue.offer(new Message(RESYNC, Map.of("userEmail", userEmail)));
+        }
+    }
+}
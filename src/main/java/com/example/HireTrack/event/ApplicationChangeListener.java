@@ -0,0 +1,164 @@
+package com.example.HireTrack.event;
+
+import com.example.HireTrack.cache.ApplicationListCache;
+import com.example.HireTrack.datasource.ReadYourWrites;
+import com.example.HireTrack.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * LISTENs for application changes broadcast by any replica's {@link ApplicationChangeNotifier}, evicts the
+ * user's cached pages on this replica, sends the user's reads to the primary database for a while
+ * (see {@link ReadYourWrites}) and pushes the change to the user's event stream subscribers.
+ * User changes drop the user from this replica's second-level and query caches, which Hibernate only
+ * invalidates in the replica that made the change.
+ * Uses its own connection outside the Hikari pool, since it is held for the lifetime of the application.
+ * After a lost connection it reconnects, and has every subscriber resync since changes may have been missed.
+ */
+@Component
+@Slf4j
+public class ApplicationChangeListener implements SmartLifecycle {
+
+    static final String CHANNEL = "application_changes";
+    static final String USER_CHANNEL = "user_changes";
+    private static final int POLL_TIMEOUT_MS = 1000;
+
+    private final JdbcConnectionDetails connectionDetails;
+    private final ObjectMapper objectMapper;
+    private final ApplicationChangeHub hub;
+    private final ApplicationListCache cache;
+    private final ReadYourWrites readYourWrites;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Duration reconnectDelay;
+    private volatile boolean running;
+    private Thread thread;
+
+    public ApplicationChangeListener(JdbcConnectionDetails connectionDetails,
+                                     ObjectMapper objectMapper,
+                                     ApplicationChangeHub hub,
+                                     ApplicationListCache cache,
+                                     ReadYourWrites readYourWrites,
+                                     EntityManagerFactory entityManagerFactory,
+                                     @Value("${app.events.reconnect-delay:5s}") Duration reconnectDelay) {
+        this.connectionDetails = connectionDetails;
+        this.objectMapper = objectMapper;
+        this.hub = hub;
+        this.cache = cache;
+        this.readYourWrites = readYourWrites;
+        this.entityManagerFactory = entityManagerFactory;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofPlatform().name("application-change-listener").daemon().start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(connectionDetails.getJdbcUrl(),
+                    connectionDetails.getUsername(), connectionDetails.getPassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                    statement.execute("LISTEN " + USER_CHANNEL);
+                }
+                log.info("Listening for changes on channels: {}, {}", CHANNEL, USER_CHANNEL);
+                if (reconnecting) {
+                    cache.evictAll();
+                    evictUsers(null);
+                    hub.resyncAll();
+                }
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            if (USER_CHANNEL.equals(notification.getName())) {
+                                dispatchUserChange(notification.getParameter());
+                            } else {
+                                dispatch(notification.getParameter());
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Lost the application change listener connection, reconnecting in {} ms",
+                        reconnectDelay.toMillis(), e);
+                reconnecting = true;
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            ApplicationChangeEvent event = objectMapper.readValue(payload, ApplicationChangeEvent.class);
+            // Keeps every replica's application list cache coherent, not just the one that made the change
+            cache.evictUser(event.userEmail());
+            readYourWrites.recordWrite(event.userEmail());
+            hub.publish(event);
+        } catch (Exception e) {
+            log.warn("Ignoring malformed application change notification: {}", payload, e);
+        }
+    }
+
+    private void dispatchUserChange(String payload) {
+        try {
+            UserChangeEvent event = objectMapper.readValue(payload, UserChangeEvent.class);
+            evictUsers(event.userId());
+        } catch (Exception e) {
+            log.warn("Ignoring malformed user change notification: {}", payload, e);
+        }
+    }
+
+    // Drops the user (every user if the id is unknown), all email-to-id resolutions, and the cached user
+    // lookups, including negative ones such as existsByEmail for a user who has since been created
+    private void evictUsers(Long userId) {
+        Cache secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        if (userId != null) {
+            secondLevelCache.evictEntityData(User.class, userId);
+        } else {
+            secondLevelCache.evictEntityData(User.class);
+        }
+        secondLevelCache.evictNaturalIdData(User.class);
+        secondLevelCache.evictDefaultQueryRegion();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.HireTrack.event;
+
+import com.example.HireTrack.datasource.ReadYourWrites;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Broadcasts application and user changes to every replica (including this one) with Postgres NOTIFY once
+ * the transaction that made them has committed; {@link ApplicationChangeListener} receives them.
+ * Rolled-back changes are never announced.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationChangeNotifier {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationChangeHub hub;
+    private final ReadYourWrites readYourWrites;
+
+    // The original transaction has already committed, so NOTIFY needs a transaction of its own
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onApplicationChange(ApplicationChangeEvent event) {
+        readYourWrites.recordWrite(event.userEmail());
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", (RowCallbackHandler) rs -> { },
+                    ApplicationChangeListener.CHANNEL, payload);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Other replicas miss this change, but local subscribers still get it
+            log.warn("Failed to broadcast application change for user: {}", event.userEmail(), e);
+            hub.publish(event);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserChange(UserChangeEvent event) {
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", (RowCallbackHandler) rs -> { },
+                    ApplicationChangeListener.USER_CHANNEL, payload);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Other replicas keep serving the user from their caches until the entries expire
+            log.warn("Failed to broadcast user change for user: {}", event.userEmail(), e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.HireTrack.event;
+
+/**
+ * A committed change to a user (created, updated or deleted). Published by UserService and broadcast to
+ * every replica through Postgres NOTIFY, so each replica drops the user from its Hibernate caches.
+ * The id is null when it is not known, e.g. for deletions by email.
+ */
+public record UserChangeEvent(String userEmail, Long userId) {
+}
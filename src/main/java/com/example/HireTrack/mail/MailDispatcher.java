@@ -0,0 +1,171 @@
+package com.example.HireTrack.mail;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMailMessage;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous mail dispatch engine. Each message is sent on its own virtual thread, subject to
+ * a global and a per-recipient-host send rate and a cap on concurrent SMTP sessions. Failed sends
+ * are retried with exponential backoff over pooled, already-connected SMTP transports.
+ * SMTP latency per attempt is recorded as hiretrack.mail.send, tagged with the outcome.
+ */
+@Component
+@Slf4j
+public class MailDispatcher {
+
+    private static final long MAX_TRACKED_HOSTS = 10_000;
+    private static final Duration HOST_LIMITER_IDLE = Duration.ofMinutes(10);
+
+    private final JavaMailSenderImpl mailSender;
+    private final SmtpTransportPool transportPool;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore sessions;
+    private final SendRateLimiter globalLimiter;
+    // Recipient hosts seen recently; a host idle long enough to be evicted has no rate history worth keeping
+    private final Cache<String, SendRateLimiter> hostLimiters = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_HOSTS)
+            .expireAfterAccess(HOST_LIMITER_IDLE)
+            .build();
+    private final double perHostRate;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Timer sentTimer;
+    private final Timer failedTimer;
+
+    public MailDispatcher(JavaMailSenderImpl mailSender,
+                          @Value("${app.mail.max-concurrency:8}") int maxConcurrency,
+                          @Value("${app.mail.rate.global-per-second:20}") double globalRate,
+                          @Value("${app.mail.rate.per-host-per-second:5}") double perHostRate,
+                          @Value("${app.mail.retry.max-attempts:3}") int maxAttempts,
+                          @Value("${app.mail.retry.initial-backoff:1s}") Duration initialBackoff,
+                          MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.transportPool = new SmtpTransportPool(mailSender, maxConcurrency);
+        this.sessions = new Semaphore(maxConcurrency);
+        this.globalLimiter = new SendRateLimiter(globalRate);
+        this.perHostRate = perHostRate;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+        this.sentTimer = sendTimer(meterRegistry, "success");
+        this.failedTimer = sendTimer(meterRegistry, "failure");
+    }
+
+    private static Timer sendTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("hiretrack.mail.send")
+                .description("SMTP send latency per attempt")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue a message for delivery. The returned future completes with whether the message was
+     * accepted by the mail server; it never completes exceptionally.
+     */
+    public CompletableFuture<Boolean> dispatch(SimpleMailMessage message) {
+        return CompletableFuture.supplyAsync(() -> deliver(message), executor);
+    }
+
+    private boolean deliver(SimpleMailMessage message) {
+        String recipient = String.join(",", message.getTo());
+        SendRateLimiter hostLimiter = hostLimiters.get(recipientHost(message),
+                host -> new SendRateLimiter(perHostRate));
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                hostLimiter.acquire();
+                globalLimiter.acquire();
+                sendOnce(message);
+                log.info("Email sent successfully to: {}", recipient);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while sending email to: {}", recipient);
+                return false;
+            } catch (Exception e) {
+                if (attempt == maxAttempts) {
+                    log.error("Failed to send email to: {} after {} attempt(s)", recipient, attempt, e);
+                    return false;
+                }
+                Duration backoff = initialBackoff.multipliedBy(1L << (attempt - 1));
+                log.warn("Failed to send email to: {} (attempt {}/{}), retrying in {} ms: {}",
+                        recipient, attempt, maxAttempts, backoff.toMillis(), e.getMessage());
+                if (!sleep(backoff)) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void sendOnce(SimpleMailMessage message) throws MessagingException, InterruptedException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        message.copyTo(new MimeMailMessage(mimeMessage));
+        mimeMessage.saveChanges();
+
+        sessions.acquire();
+        try {
+            long start = System.nanoTime();
+            Transport transport = null;
+            try {
+                transport = transportPool.borrow();
+                transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+                transportPool.release(transport);
+                sentTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            } catch (MessagingException | RuntimeException e) {
+                // The session state is unknown after a failure, so never hand it out again
+                if (transport != null) {
+                    transportPool.invalidate(transport);
+                }
+                failedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        } finally {
+            sessions.release();
+        }
+    }
+
+    private static String recipientHost(SimpleMailMessage message) {
+        String[] to = message.getTo();
+        if (to == null || to.length == 0) {
+            return "";
+        }
+        int at = to[0].lastIndexOf('@');
+        return at >= 0 ? to[0].substring(at + 1).toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.close();
+        transportPool.close();
+    }
+}
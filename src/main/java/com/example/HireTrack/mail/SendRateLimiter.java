@@ -0,0 +1,34 @@
+package com.example.HireTrack.mail;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Smooth rate limiter: hands out one permit every {@code 1 / permitsPerSecond} seconds and makes
+ * callers sleep until their slot. A non-positive rate disables limiting.
+ */
+final class SendRateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeNanos = System.nanoTime();
+
+    SendRateLimiter(double permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+    }
+
+    void acquire() throws InterruptedException {
+        if (intervalNanos == 0) {
+            return;
+        }
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        long slot = Math.max(now, nextFreeNanos);
+        nextFreeNanos = slot + intervalNanos;
+        return slot - now;
+    }
+}
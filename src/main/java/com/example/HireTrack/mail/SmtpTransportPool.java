@@ -0,0 +1,87 @@
+package com.example.HireTrack.mail;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Keeps connected SMTP transports around so consecutive messages reuse a session
+ * instead of paying the connect/EHLO/STARTTLS/AUTH round trips for every send.
+ */
+@Slf4j
+class SmtpTransportPool implements AutoCloseable {
+
+    private final JavaMailSenderImpl mailSender;
+    private final BlockingQueue<Transport> idle;
+
+    SmtpTransportPool(JavaMailSenderImpl mailSender, int maxIdle) {
+        this.mailSender = mailSender;
+        this.idle = new ArrayBlockingQueue<>(Math.max(1, maxIdle));
+    }
+
+    Transport borrow() throws MessagingException {
+        Transport transport;
+        while ((transport = idle.poll()) != null) {
+            if (transport.isConnected()) {
+                return transport;
+            }
+            closeQuietly(transport);
+        }
+        return connect();
+    }
+
+    void release(Transport transport) {
+        if (!idle.offer(transport)) {
+            closeQuietly(transport);
+        }
+    }
+
+    void invalidate(Transport transport) {
+        closeQuietly(transport);
+    }
+
+    @Override
+    public void close() {
+        Transport transport;
+        while ((transport = idle.poll()) != null) {
+            closeQuietly(transport);
+        }
+    }
+
+    private Transport connect() throws MessagingException {
+        // Mirrors JavaMailSenderImpl#connectTransport
+        String username = mailSender.getUsername();
+        String password = mailSender.getPassword();
+        if ("".equals(username)) {
+            username = null;
+            if ("".equals(password)) {
+                password = null;
+            }
+        }
+        Session session = mailSender.getSession();
+        // Mirrors JavaMailSenderImpl#getTransport: the sender's protocol, then the session's, then SMTP
+        String protocol = mailSender.getProtocol();
+        if (protocol == null) {
+            protocol = session.getProperty("mail.transport.protocol");
+            if (protocol == null) {
+                protocol = JavaMailSenderImpl.DEFAULT_PROTOCOL;
+            }
+        }
+        Transport transport = session.getTransport(protocol);
+        transport.connect(mailSender.getHost(), mailSender.getPort(), username, password);
+        return transport;
+    }
+
+    private void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP transport", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.HireTrack.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * The (appliedDate, id) keyset application listings are ordered and paged by. Implemented by the
+ * entity and by every listing projection, so cursors can be built from either.
+ */
+public interface ApplicationKeyset {
+
+    UUID getId();
+
+    LocalDate getAppliedDate();
+}
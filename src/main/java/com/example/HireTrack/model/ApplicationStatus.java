@@ -5,6 +5,12 @@ public enum ApplicationStatus {
     INTERVIEW,
     REJECTED,
     OFFERED,
-    HIRED
-}
+    HIRED;
 
+    /**
+     * Closed statuses; only applications in one of these are moved to the archive partition
+     */
+    public boolean isArchivable() {
+        return this == REJECTED || this == HIRED;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.HireTrack.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.time.LocalDateTime;
+
+/**
+ * An email waiting in (or delivered from) the transactional outbox. A claimed row stays PENDING
+ * with {@code availableAt} pushed out by the claim lease, so a row whose sender died is picked up
+ * again once the lease expires.
+ */
+@Entity
+@Table(name = "email_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(exclude = "body")
+public class EmailOutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "dedupe_key", nullable = false, updatable = false)
+    private String dedupeKey;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Column(name = "body", nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    public void claim(LocalDateTime leaseUntil) {
+        attempts++;
+        availableAt = leaseUntil;
+    }
+
+    public void markSent(LocalDateTime now) {
+        status = OutboxStatus.SENT;
+        sentAt = now;
+        lastError = null;
+    }
+
+    /**
+     * Record a failed attempt; {@code retryAt} null means attempts are exhausted
+     */
+    public void markFailed(String error, LocalDateTime retryAt) {
+        lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (retryAt == null) {
+            status = OutboxStatus.FAILED;
+        } else {
+            availableAt = retryAt;
+        }
+    }
+
+    public SimpleMailMessage toMailMessage() {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(recipient);
+        message.setSubject(subject);
+        message.setText(body);
+        return message;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.HireTrack.model;
+
+import com.example.HireTrack.dto.ExportJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An asynchronous export job. Rendered by the instance that accepted it; polled and downloaded through
+ * any instance. {@code lastDownloadedAt} keeps an expired job's file around while it is still being served.
+ */
+@Entity
+@Table(name = "export_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class ExportJob {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "user_email", nullable = false, updatable = false)
+    private String userEmail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 20)
+    private ExportJobStatus.State state;
+
+    @Column(name = "submitted_at", nullable = false, updatable = false)
+    private Instant submittedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+
+    @Column(name = "error")
+    private String error;
+
+    @Column(name = "last_downloaded_at")
+    private Instant lastDownloadedAt;
+
+    public ExportJobStatus toStatus() {
+        return new ExportJobStatus(id, userEmail, state, submittedAt, completedAt, expiresAt, sizeBytes, error);
+    }
+}
@@ -11,7 +11,14 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "job_applications")
+@Table(name = "job_applications", indexes = {
+        // Index DDL lives in db/migration; these declarations document the access paths they cover
+        @Index(name = "idx_job_applications_user_status_applied", columnList = "user_id, status, applied_date DESC, id DESC"),
+        @Index(name = "idx_job_applications_user_applied", columnList = "user_id, applied_date DESC, id DESC"),
+        @Index(name = "idx_job_applications_status_applied", columnList = "status, applied_date DESC, id DESC"),
+        @Index(name = "idx_job_applications_status_user", columnList = "status, user_id"),
+        @Index(name = "idx_job_applications_applied", columnList = "applied_date DESC, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,12 +26,12 @@ import java.util.UUID;
 @EqualsAndHashCode(exclude = "user")
 @ToString(exclude = "user")
 @Schema(description = "Job application entity representing a job application submitted by a user")
-public class JobApplication {
+public class JobApplication implements ApplicationKeyset, Versioned {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "id", updatable = false, nullable = false)
-    @Schema(description = "Unique identifier (UUID) for the job application - auto-generated, read-only", example = "550e8400-e29b-41d4-a716-446655440000", accessMode = Schema.AccessMode.READ_ONLY)
+    @Schema(description = "Unique identifier (time-ordered UUIDv7) for the job application - auto-generated, read-only", example = "550e8400-e29b-41d4-a716-446655440000", accessMode = Schema.AccessMode.READ_ONLY)
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private UUID id;
     
@@ -44,8 +51,8 @@ public class JobApplication {
             allowableValues = {"APPLIED", "INTERVIEW", "REJECTED", "OFFERED", "HIRED"})
     private ApplicationStatus status;
     
-    @Column(name = "applied_date")
-    @Schema(description = "Date when the application was submitted", example = "2024-01-15")
+    @Column(name = "applied_date", nullable = false)
+    @Schema(description = "Date when the application was submitted (defaults to the creation date)", example = "2024-01-15")
     private LocalDate appliedDate;
     
     @Column(name = "notes", length = 2000)
@@ -53,7 +60,7 @@ public class JobApplication {
     private String notes;
     
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_email", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false)
     @JsonIgnore
     @Schema(hidden = true)
     private User user;
@@ -68,15 +75,34 @@ public class JobApplication {
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private LocalDateTime updatedAt;
     
+    @Version
+    @Column(name = "version", nullable = false)
+    @Schema(description = "Row version, incremented on every update; sent as the ETag", example = "3", accessMode = Schema.AccessMode.READ_ONLY)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+    
+    // Partition key: true once ApplicationArchiver has moved the application to the archive partition
+    @Column(name = "archived", nullable = false)
+    @JsonIgnore
+    @Schema(hidden = true)
+    private boolean archived;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        if (appliedDate == null) {
+            appliedDate = createdAt.toLocalDate();
+        }
     }
     
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        // A reopened application moves back to the hot partition, where queries on open statuses look for it
+        if (!status.isArchivable()) {
+            archived = false;
+        }
     }
 }
 
@@ -0,0 +1,7 @@
+package com.example.HireTrack.model;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
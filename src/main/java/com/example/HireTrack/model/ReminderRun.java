@@ -0,0 +1,54 @@
+package com.example.HireTrack.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of one shard of one day's reminder job. Users are processed in email order, so
+ * {@code lastEmail} is the resume point if the job is interrupted.
+ */
+@Entity
+@Table(name = "reminder_runs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ReminderRun {
+
+    @EmbeddedId
+    private ReminderRunId id;
+
+    @Column(name = "last_email")
+    private String lastEmail;
+
+    @Column(name = "enqueued_count", nullable = false)
+    private int enqueuedCount;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Column(name = "started_at", nullable = false, updatable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public void recordChunk(String lastEmail, int enqueued) {
+        this.lastEmail = lastEmail;
+        this.enqueuedCount += enqueued;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        startedAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
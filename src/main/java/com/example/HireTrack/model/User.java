@@ -5,6 +5,12 @@ import jakarta.persistence.*;
 import lombok.*;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -18,10 +24,22 @@ import java.util.List;
 @AllArgsConstructor
 @EqualsAndHashCode(exclude = "jobApplications")
 @ToString(exclude = "jobApplications")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache
 @Schema(description = "User entity representing a registered user in the system")
-public class User {
+public class User implements Versioned {
     
+    // Second-level cache region, bounded in application.conf
+    public static final String CACHE_REGION = "users";
+    
+    // Surrogate key referenced by job_applications.user_id; the API identifies users by email
     @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Long id;
+    
+    @NaturalId
     @Column(unique = true, nullable = false)
     @Schema(description = "User's email address (unique identifier)", example = "john.doe@example.com", required = true)
     private String email;
@@ -40,7 +58,15 @@ public class User {
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private LocalDateTime updatedAt;
     
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Version
+    @Column(name = "version", nullable = false)
+    @Schema(description = "Row version, incremented on every update; sent as the ETag", example = "3", accessMode = Schema.AccessMode.READ_ONLY)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+    
+    // Removed by the ON DELETE CASCADE foreign key when the user is deleted, never loaded for it
+    @OneToMany(mappedBy = "user")
+    @OnDelete(action = OnDeleteAction.CASCADE)
     @JsonIgnore
     private List<JobApplication> jobApplications = new ArrayList<>();
     
@@ -0,0 +1,48 @@
+package com.example.HireTrack.model;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RFC 9562 UUIDv7 ids: a 48-bit Unix millisecond timestamp, a 12-bit counter and 62 random bits.
+ * Ids generated later sort higher, so inserts append to the right edge of the primary key index instead of
+ * landing on random leaf pages. The counter keeps ids from one instance strictly increasing even within
+ * a millisecond; when it overflows, the timestamp borrows from the next millisecond.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // Timestamp in the upper bits, counter in the lower 12 bits, as they appear in the UUID
+    private static final AtomicLong LAST = new AtomicLong();
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        long timeAndCounter = LAST.updateAndGet(last -> Math.max(last + 1, now));
+
+        long mostSigBits = (timeAndCounter >>> 12) << 16   // unix_ts_ms
+                | 0x7000L                                   // version 7
+                | (timeAndCounter & 0xFFFL);                // rand_a, used as the counter
+        long leastSigBits = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL
+                | 0x8000000000000000L;                      // variant 10
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
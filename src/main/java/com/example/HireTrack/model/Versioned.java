@@ -0,0 +1,9 @@
+package com.example.HireTrack.model;
+
+/**
+ * An entity (or projection of one) carrying its optimistic-locking version
+ */
+public interface Versioned {
+
+    Long getVersion();
+}
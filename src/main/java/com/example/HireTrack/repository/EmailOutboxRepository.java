@@ -0,0 +1,26 @@
+package com.example.HireTrack.repository;
+
+import com.example.HireTrack.model.EmailOutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    // Lock a batch of due messages; rows locked by other instances are skipped, not waited on
+    @Query(value = "SELECT * FROM email_outbox WHERE status = 'PENDING' AND available_at <= :now " +
+            "ORDER BY available_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EmailOutboxMessage> lockDueBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Delete up to :limit sent or given-up messages created before the cutoff
+    @Modifying
+    @Query(value = "DELETE FROM email_outbox WHERE id IN (SELECT id FROM email_outbox " +
+            "WHERE status IN ('SENT', 'FAILED') AND created_at < :cutoff LIMIT :limit)", nativeQuery = true)
+    int purgeBatch(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,68 @@
+package com.example.HireTrack.repository;
+
+import com.example.HireTrack.dto.ExportJobStatus;
+import com.example.HireTrack.model.ExportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ExportJobRepository extends JpaRepository<ExportJob, UUID> {
+
+    Optional<ExportJob> findByIdAndUserEmail(UUID id, String userEmail);
+
+    Optional<ExportJob> findFirstByUserEmailAndStateIn(String userEmail, Collection<ExportJobStatus.State> states);
+
+    // Create a pending job unless the user already has an unfinished one (uk_export_jobs_user_unfinished)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO export_jobs (id, user_email, state, submitted_at) " +
+            "VALUES (:id, :userEmail, 'PENDING', :now) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int createIfNoneUnfinished(@Param("id") UUID id, @Param("userEmail") String userEmail, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ExportJob j SET j.state = :state WHERE j.id = :id")
+    int updateState(@Param("id") UUID id, @Param("state") ExportJobStatus.State state);
+
+    // Record the outcome of a job; finished jobs expire, with their file, at expiresAt
+    @Transactional
+    @Modifying
+    @Query("UPDATE ExportJob j SET j.state = :state, j.sizeBytes = :sizeBytes, j.error = :error, " +
+            "j.completedAt = :now, j.expiresAt = :expiresAt WHERE j.id = :id")
+    int finish(@Param("id") UUID id, @Param("state") ExportJobStatus.State state, @Param("sizeBytes") Long sizeBytes,
+               @Param("error") String error, @Param("now") Instant now, @Param("expiresAt") Instant expiresAt);
+
+    // Jobs whose instance went away before finishing them never finish on their own
+    @Transactional
+    @Modifying
+    @Query("UPDATE ExportJob j SET j.state = :failed, j.error = 'Export was abandoned', j.completedAt = :now, " +
+            "j.expiresAt = :now WHERE j.state IN :unfinished AND j.submittedAt < :submittedBefore")
+    int failAbandoned(@Param("unfinished") Collection<ExportJobStatus.State> unfinished,
+                      @Param("failed") ExportJobStatus.State failed,
+                      @Param("submittedBefore") Instant submittedBefore, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ExportJob j SET j.lastDownloadedAt = :now WHERE j.id IN :ids")
+    int markDownloading(@Param("ids") Collection<UUID> ids, @Param("now") Instant now);
+
+    @Query("SELECT j.id FROM ExportJob j WHERE j.expiresAt < :now")
+    List<UUID> findExpiredIds(@Param("now") Instant now);
+
+    // Rechecks expiry, so a job whose download started after it was found expired is kept
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ExportJob j WHERE j.id = :id AND j.expiresAt < :now " +
+            "AND (j.lastDownloadedAt IS NULL OR j.lastDownloadedAt < :idleSince)")
+    int deleteIfExpired(@Param("id") UUID id, @Param("now") Instant now, @Param("idleSince") Instant idleSince);
+}
@@ -1,46 +1,189 @@
 package com.example.HireTrack.repository;
 
+import com.example.HireTrack.dto.LabelCountView;
+import com.example.HireTrack.dto.SearchHitView;
+import com.example.HireTrack.dto.StatusCountView;
 import com.example.HireTrack.model.ApplicationStatus;
 import com.example.HireTrack.model.JobApplication;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface JobApplicationRepository extends JpaRepository<JobApplication, UUID> {
     
-    // Get all applications (no filter) - with pagination
-    Page<JobApplication> findAllByOrderByAppliedDateDesc(Pageable pageable);
+    // Get all applications (no filter) - keyset pagination on (appliedDate, id).
+    // The listing queries take the result type: the entity, or a projection such as JobApplicationSummary
+    <T> Window<T> findAllByOrderByAppliedDateDescIdDesc(ScrollPosition position, Limit limit, Class<T> type);
     
     // Get all applications (no filter) - without pagination (for backward compatibility)
     List<JobApplication> findAllByOrderByAppliedDateDesc();
     
     // Get all applications by status (no user filter)
-    List<JobApplication> findByStatusOrderByAppliedDateDesc(ApplicationStatus status);
+    <T> Window<T> findByStatusOrderByAppliedDateDescIdDesc(ApplicationStatus status, ScrollPosition position, Limit limit,
+                                                          Class<T> type);
+    
+    // The ...ArchivedFalse variants only read the hot partition; applications in an open status are never archived
+    <T> Window<T> findByStatusAndArchivedFalseOrderByAppliedDateDescIdDesc(ApplicationStatus status, ScrollPosition position,
+                                                                          Limit limit, Class<T> type);
+    
+    // Per-user queries filter on the user_id foreign key; callers resolve the email with UserRepository.findIdByEmail
     
     // Get all applications for a specific user
-    List<JobApplication> findByUserEmailOrderByAppliedDateDesc(String userEmail);
+    <T> Window<T> findByUserIdOrderByAppliedDateDescIdDesc(Long userId, ScrollPosition position, Limit limit,
+                                                          Class<T> type);
     
     // Get all applications of a user with a particular status
-    List<JobApplication> findByUserEmailAndStatusOrderByAppliedDateDesc(String userEmail, ApplicationStatus status);
+    <T> Window<T> findByUserIdAndStatusOrderByAppliedDateDescIdDesc(Long userId, ApplicationStatus status,
+                                                                   ScrollPosition position, Limit limit, Class<T> type);
+    
+    <T> Window<T> findByUserIdAndStatusAndArchivedFalseOrderByAppliedDateDescIdDesc(Long userId, ApplicationStatus status,
+                                                                                   ScrollPosition position, Limit limit,
+                                                                                   Class<T> type);
+    
+    // Stream all applications for a specific user through a forward-only cursor (for exports)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT j FROM JobApplication j WHERE j.user.id = :userId ORDER BY j.appliedDate DESC, j.id DESC")
+    Stream<JobApplication> streamByUserId(@Param("userId") Long userId);
+    
+    // Find by ID and user (for security)
+    Optional<JobApplication> findByIdAndUserId(UUID id, Long userId);
+    
+    boolean existsByIdAndUserId(UUID id, Long userId);
+    
+    // Applications by id in the requested shape (search results)
+    <T> List<T> findByIdIn(Collection<UUID> ids, Class<T> type);
     
-    // Find by ID and user email (for security)
-    Optional<JobApplication> findByIdAndUserEmail(UUID id, String userEmail);
+    // Batch ownership checks: the subset of the given applications that belong to the user
+    List<JobApplication> findByIdInAndUserId(Collection<UUID> ids, Long userId);
     
-    boolean existsByIdAndUserEmail(UUID id, String userEmail);
+    @Query("SELECT j.id FROM JobApplication j WHERE j.id IN :ids AND j.user.id = :userId")
+    List<UUID> findOwnedIds(@Param("ids") Collection<UUID> ids, @Param("userId") Long userId);
     
     // Find all applications with APPLIED status for a specific user
-    List<JobApplication> findByUserEmailAndStatus(String userEmail, ApplicationStatus status);
+    List<JobApplication> findByUserIdAndStatus(Long userId, ApplicationStatus status);
+    
+    // The reminder queries below take an open status (APPLIED), so they only read the hot partition
     
     // Find distinct user emails who have APPLIED applications
-    @Query("SELECT DISTINCT u.email FROM JobApplication j JOIN j.user u WHERE j.status = :status")
+    @Query("SELECT DISTINCT u.email FROM JobApplication j JOIN j.user u WHERE j.status = :status AND j.archived = false")
     List<String> findDistinctUserEmailsByStatus(@Param("status") ApplicationStatus status);
+    
+    // Next chunk of distinct user emails with applications in a status, in email order after the given email,
+    // restricted to one shard of the email hash space
+    @Query(value = "SELECT DISTINCT u.email FROM job_applications j JOIN users u ON u.id = j.user_id " +
+            "WHERE j.status = :status AND j.archived = false AND u.email > :afterEmail " +
+            "AND (hashtext(u.email) & 2147483647) % :shards = :shard " +
+            "ORDER BY u.email LIMIT :limit", nativeQuery = true)
+    List<String> findDistinctUserEmailsByStatusInShardAfter(@Param("status") String status,
+                                                            @Param("shards") int shards,
+                                                            @Param("shard") int shard,
+                                                            @Param("afterEmail") String afterEmail,
+                                                            @Param("limit") int limit);
+    
+    // Applications in a status for a chunk of users, with their user fetched in the same query
+    @Query("SELECT j FROM JobApplication j JOIN FETCH j.user u " +
+            "WHERE j.status = :status AND j.archived = false AND u.email IN :emails " +
+            "ORDER BY u.email, j.appliedDate DESC, j.id DESC")
+    List<JobApplication> findWithUserByStatusAndUserEmailIn(@Param("status") ApplicationStatus status,
+                                                           @Param("emails") Collection<String> emails);
+    
+    // Move up to :limit closed applications applied before the cutoff to the archive partition, returning the
+    // owner's email once per moved row. Rows being archived by another instance are skipped, so concurrent
+    // archivers never wait on each other. The version is bumped so that copies loaded before the move
+    // (still archived = false) fail their version check instead of moving the row back when saved.
+    @Query(value = "WITH moved AS (" +
+            "UPDATE job_applications SET archived = true, version = version + 1 WHERE (id, archived) IN (" +
+            "SELECT id, archived FROM job_applications " +
+            "WHERE archived = false AND status IN (:statuses) AND applied_date < :cutoff " +
+            "LIMIT :limit FOR UPDATE SKIP LOCKED) RETURNING user_id) " +
+            "SELECT u.email FROM moved JOIN users u ON u.id = moved.user_id", nativeQuery = true)
+    List<String> archiveBatch(@Param("statuses") Collection<String> statuses,
+                              @Param("cutoff") LocalDate cutoff,
+                              @Param("limit") int limit);
+    
+    // ---- Aggregate stats: counted in the database, only the groups are returned ----
+    
+    @Query("SELECT j.status AS status, COUNT(j) AS count FROM JobApplication j GROUP BY j.status")
+    List<StatusCountView> countByStatus();
+    
+    @Query("SELECT j.status AS status, COUNT(j) AS count FROM JobApplication j " +
+            "WHERE j.user.id = :userId GROUP BY j.status")
+    List<StatusCountView> countByStatusForUser(@Param("userId") Long userId);
+    
+    // Global status counts from the application_status_summary materialized view
+    @Query(value = "SELECT status AS status, total AS count FROM application_status_summary", nativeQuery = true)
+    List<StatusCountView> countByStatusFromSummary();
+    
+    @Transactional
+    @Modifying
+    @Query(value = "REFRESH MATERIALIZED VIEW CONCURRENTLY application_status_summary", nativeQuery = true)
+    void refreshStatusSummary();
+    
+    // Users with the most applications; the pageable only limits the number of groups
+    @Query("SELECT u.email AS label, COUNT(j) AS count FROM JobApplication j JOIN j.user u " +
+            "GROUP BY u.id, u.email ORDER BY COUNT(j) DESC, u.email")
+    List<LabelCountView> countByUser(Pageable pageable);
+    
+    // Companies with the most applications
+    @Query("SELECT j.company AS label, COUNT(j) AS count FROM JobApplication j " +
+            "GROUP BY j.company ORDER BY COUNT(j) DESC, j.company")
+    List<LabelCountView> countByCompany(Pageable pageable);
+    
+    @Query("SELECT j.company AS label, COUNT(j) AS count FROM JobApplication j WHERE j.user.id = :userId " +
+            "GROUP BY j.company ORDER BY COUNT(j) DESC, j.company")
+    List<LabelCountView> countByCompanyForUser(@Param("userId") Long userId, Pageable pageable);
+    
+    // Applications per applied-date bucket since a date; unit is a date_trunc field (day, week, month)
+    @Query(value = "SELECT to_char(date_trunc(:unit, applied_date), 'YYYY-MM-DD') AS label, count(*) AS count " +
+            "FROM job_applications WHERE applied_date >= :since " +
+            "GROUP BY 1 ORDER BY 1", nativeQuery = true)
+    List<LabelCountView> countByAppliedDateBucket(@Param("unit") String unit, @Param("since") LocalDate since);
+    
+    @Query(value = "SELECT to_char(date_trunc(:unit, applied_date), 'YYYY-MM-DD') AS label, count(*) AS count " +
+            "FROM job_applications WHERE user_id = :userId AND applied_date >= :since " +
+            "GROUP BY 1 ORDER BY 1", nativeQuery = true)
+    List<LabelCountView> countByAppliedDateBucketForUser(@Param("userId") Long userId,
+                                                         @Param("unit") String unit,
+                                                         @Param("since") LocalDate since);
+    
+    // ---- Full-text search over company, position and notes (GIN index on search_vector) ----
+    
+    String SEARCH_HITS = "SELECT j.id AS id, ts_rank_cd(j.search_vector, q) AS rank " +
+            "FROM job_applications j, websearch_to_tsquery('english', :query) q " +
+            "WHERE j.user_id = :userId AND j.search_vector @@ q";
+    
+    // First page of a user's matches, best match first (ties broken by id)
+    @Query(value = "SELECT id, rank FROM (" + SEARCH_HITS + ") hits " +
+            "ORDER BY rank DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<SearchHitView> searchFirst(@Param("userId") Long userId,
+                                    @Param("query") String query,
+                                    @Param("limit") int limit);
+    
+    // Matches after the (rank, id) keyset of the last match on the previous page
+    @Query(value = "SELECT id, rank FROM (" + SEARCH_HITS + ") hits " +
+            "WHERE (rank, id) < (CAST(:afterRank AS real), CAST(:afterId AS uuid)) " +
+            "ORDER BY rank DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<SearchHitView> searchAfter(@Param("userId") Long userId,
+                                    @Param("query") String query,
+                                    @Param("afterRank") float afterRank,
+                                    @Param("afterId") UUID afterId,
+                                    @Param("limit") int limit);
 }
-
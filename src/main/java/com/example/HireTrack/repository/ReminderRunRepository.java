@@ -0,0 +1,26 @@
+package com.example.HireTrack.repository;
+
+import com.example.HireTrack.model.ReminderRun;
+import com.example.HireTrack.model.ReminderRunId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReminderRunRepository extends JpaRepository<ReminderRun, ReminderRunId> {
+
+    // Create the progress row of a shard unless another replica already did
+    @Modifying
+    @Query(value = "INSERT INTO reminder_runs (run_date, shard, enqueued_count, completed, started_at, updated_at) " +
+            "VALUES (:runDate, :shard, 0, false, :now, :now) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int createIfAbsent(@Param("runDate") LocalDate runDate, @Param("shard") int shard, @Param("now") LocalDateTime now);
+
+    @Query("SELECT r.id.shard FROM ReminderRun r WHERE r.id.runDate = :runDate AND r.completed = false")
+    List<Integer> findIncompleteShards(@Param("runDate") LocalDate runDate);
+}
@@ -1,16 +1,44 @@
 package com.example.HireTrack.repository;
 
 import com.example.HireTrack.model.User;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
-public interface UserRepository extends JpaRepository<User, String> {
+public interface UserRepository extends JpaRepository<User, Long> {
+    
+    // Keyset pagination on email
+    Window<User> findAllByOrderByEmailAsc(ScrollPosition position, Limit limit);
     
+    // These lookups run on most requests; their results are kept in the query cache (and the users themselves
+    // in the second-level cache) until the users table changes. Other instances drop them when UserService's
+    // change notification arrives (see application.conf).
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
     
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     boolean existsByEmail(String email);
+    
+    // Email-to-id lookup for the application queries, which filter on job_applications.user_id
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+    
+    // Single set-based DELETE; the user's applications go with it through the ON DELETE CASCADE foreign key
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.email = :email")
+    int deleteByEmailInBatch(@Param("email") String email);
 }
 
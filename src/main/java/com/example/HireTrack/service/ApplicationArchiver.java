@@ -0,0 +1,89 @@
+package com.example.HireTrack.service;
+
+import com.example.HireTrack.cache.ApplicationListCache;
+import com.example.HireTrack.event.ApplicationChangeEvent;
+import com.example.HireTrack.model.ApplicationStatus;
+import com.example.HireTrack.repository.JobApplicationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves closed (REJECTED, HIRED) applications applied more than app.archive.after ago from the hot
+ * partition of job_applications to the archive partition, in batches of app.archive.batch-size rows,
+ * each in its own short transaction. Archived applications stay readable through every query; only
+ * queries on open statuses (listings, reminders) stop scanning them.
+ * Archiving bumps each application's version, so the owners' cached pages are evicted and their event streams
+ * told to resync, on every instance, once each batch commits.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationArchiver {
+
+    private static final List<String> ARCHIVABLE_STATUSES = Arrays.stream(ApplicationStatus.values())
+            .filter(ApplicationStatus::isArchivable)
+            .map(ApplicationStatus::name)
+            .toList();
+
+    private final JobApplicationRepository repository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationListCache cache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.archive.after:365d}")
+    private Duration after;
+
+    @Value("${app.archive.batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.archive.cron}")
+    public void archiveClosedApplications() {
+        LocalDate cutoff = LocalDate.now().minusDays(after.toDays());
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long start = System.nanoTime();
+        long archived = 0;
+
+        try {
+            while (true) {
+                Integer moved = tx.execute(status -> archiveBatch(cutoff));
+                if (moved == null || moved == 0) {
+                    break;
+                }
+                archived += moved;
+                meterRegistry.counter("hiretrack.archive.archived").increment(moved);
+                if (moved < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error while archiving applications applied before {}", cutoff, e);
+        }
+
+        log.info("Archived {} application(s) applied before {} in {} ms", archived, cutoff,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private int archiveBatch(LocalDate cutoff) {
+        List<String> owners = repository.archiveBatch(ARCHIVABLE_STATUSES, cutoff, batchSize);
+        for (String userEmail : new LinkedHashSet<>(owners)) {
+            cache.evictUser(userEmail);
+            eventPublisher.publishEvent(ApplicationChangeEvent.resync(userEmail));
+        }
+        return owners.size();
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.HireTrack.service;
+
+import com.example.HireTrack.model.EmailOutboxMessage;
+import com.example.HireTrack.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Transactional outbox for outgoing email. Producers enqueue messages inside their own transaction;
+ * the relay on every instance claims due rows with FOR UPDATE SKIP LOCKED, so several instances
+ * drain the outbox in parallel without sending a message twice.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxService {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO email_outbox (dedupe_key, recipient, subject, body, status, attempts, available_at, created_at)
+            VALUES (:dedupeKey, :recipient, :subject, :body, 'PENDING', 0, :now, :now)
+            ON CONFLICT (dedupe_key) DO NOTHING
+            """;
+
+    private final EmailOutboxRepository repository;
+    private final EmailService emailService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.outbox.lease:5m}")
+    private Duration lease;
+
+    @Value("${app.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.retry-backoff:1m}")
+    private Duration retryBackoff;
+
+    @Value("${app.outbox.retention:7d}")
+    private Duration retention;
+
+    /**
+     * Enqueue messages keyed by a dedupe key; a key that is already in the outbox is ignored,
+     * so re-running a producer never queues the same email twice. Must join the caller's
+     * transaction so the messages commit (or roll back) together with the change that produced them.
+     *
+     * @return number of messages actually enqueued
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int enqueue(Map<String, SimpleMailMessage> messagesByDedupeKey) {
+        if (messagesByDedupeKey.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        SqlParameterSource[] batch = messagesByDedupeKey.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("dedupeKey", entry.getKey())
+                        .addValue("recipient", String.join(",", entry.getValue().getTo()))
+                        .addValue("subject", entry.getValue().getSubject())
+                        .addValue("body", entry.getValue().getText())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+
+        int enqueued = 0;
+        for (int rows : jdbcTemplate.batchUpdate(INSERT_SQL, batch)) {
+            // Drivers may report SUCCESS_NO_INFO (-2) for batched statements
+            enqueued += rows == 0 ? 0 : 1;
+        }
+        return enqueued;
+    }
+
+    /**
+     * Drain due outbox messages in batches until none are left
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:5000}")
+    public void relay() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        while (true) {
+            List<EmailOutboxMessage> batch = tx.execute(status -> claimBatch());
+            if (batch == null || batch.isEmpty()) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            List<CompletableFuture<Boolean>> sends = new ArrayList<>(batch.size());
+            for (EmailOutboxMessage message : batch) {
+                sends.add(emailService.sendAsync(message.toMailMessage()));
+            }
+
+            List<Long> sent = new ArrayList<>();
+            List<Long> failed = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                (sends.get(i).join() ? sent : failed).add(batch.get(i).getId());
+            }
+            tx.executeWithoutResult(status -> complete(sent, failed));
+
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            log.info("Outbox batch of {} message(s) relayed in {} ms ({} msg/s). Sent: {}, Failed: {}",
+                    batch.size(), millis, millis > 0 ? batch.size() * 1000L / millis : batch.size(),
+                    sent.size(), failed.size());
+        }
+    }
+
+    /**
+     * Delete sent and given-up messages older than the retention period, in batches so no single
+     * transaction holds many row locks
+     */
+    @Scheduled(cron = "${app.outbox.purge-cron:0 0 4 * * *}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long purged = 0;
+        try {
+            while (true) {
+                Integer deleted = tx.execute(status -> repository.purgeBatch(cutoff, batchSize));
+                if (deleted == null || deleted == 0) {
+                    break;
+                }
+                purged += deleted;
+                if (deleted < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error while purging outbox messages created before {}", cutoff, e);
+        }
+        log.info("Purged {} outbox message(s) created before {}", purged, cutoff);
+    }
+
+    private List<EmailOutboxMessage> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutboxMessage> batch = repository.lockDueBatch(now, batchSize);
+        LocalDateTime leaseUntil = now.plus(lease);
+        batch.forEach(message -> message.claim(leaseUntil));
+        return batch;
+    }
+
+    private void complete(List<Long> sent, List<Long> failed) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = new ArrayList<>(sent);
+        ids.addAll(failed);
+        Map<Long, EmailOutboxMessage> messages = repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(EmailOutboxMessage::getId, Function.identity()));
+
+        for (Long id : sent) {
+            messages.get(id).markSent(now);
+        }
+        for (Long id : failed) {
+            EmailOutboxMessage message = messages.get(id);
+            LocalDateTime retryAt = message.getAttempts() < maxAttempts
+                    ? now.plus(retryBackoff.multipliedBy(message.getAttempts()))
+                    : null;
+            message.markFailed("Delivery failed after " + message.getAttempts() + " attempt(s)", retryAt);
+            if (retryAt == null) {
+                log.error("Giving up on outbox message {} to: {}", id, message.getRecipient());
+            }
+        }
+    }
+}
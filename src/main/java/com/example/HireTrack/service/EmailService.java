@@ -1,36 +1,41 @@
 package com.example.HireTrack.service;
 
+import com.example.HireTrack.mail.MailDispatcher;
 import com.example.HireTrack.model.JobApplication;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private final MailDispatcher mailDispatcher;
 
-    public void sendApplicationReminder(String userEmail, String userName, List<JobApplication> applications) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(userEmail);
-            message.setSubject("Reminder: You have pending job applications");
-            message.setText(buildEmailContent(userName, applications));
-            
-            mailSender.send(message);
-            log.info("Reminder email sent successfully to: {}", userEmail);
-        } catch (Exception e) {
-            log.error("Failed to send reminder email to: {}", userEmail, e);
-        }
+    public CompletableFuture<Boolean> sendApplicationReminder(String userEmail, String userName, List<JobApplication> applications) {
+        return sendAsync(buildApplicationReminder(userEmail, userName, applications));
+    }
+
+    public SimpleMailMessage buildApplicationReminder(String userEmail, String userName, List<JobApplication> applications) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(userEmail);
+        message.setSubject("Reminder: You have pending job applications");
+        message.setText(buildEmailContent(userName, applications));
+        return message;
+    }
+
+    /**
+     * Hand a message to the dispatch engine. The future completes with whether the message
+     * was accepted by the mail server (after retries).
+     */
+    public CompletableFuture<Boolean> sendAsync(SimpleMailMessage message) {
+        return mailDispatcher.dispatch(message);
     }
 
-    private String buildEmailContent(String userName, List<JobApplication> applications) {
+    static String buildEmailContent(String userName, List<JobApplication> applications) {
         StringBuilder content = new StringBuilder();
         content.append("Hello ").append(userName).append(",\n\n");
         content.append("This is a friendly reminder that you have ").append(applications.size())
@@ -0,0 +1,247 @@
+package com.example.HireTrack.service;
+
+import com.example.HireTrack.dto.ExportJobStatus;
+import com.example.HireTrack.model.ExportJob;
+import com.example.HireTrack.repository.ExportJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Asynchronous CSV exports. A job renders a user's applications to a file in app.export.dir on a virtual
+ * thread of the instance that accepted it, off the request thread; at most app.export.max-concurrent-jobs
+ * render at once per instance, so large exports cannot take over the connection pool.
+ * Jobs are kept in the export_jobs table, so any instance can report on them, and any instance that shares
+ * app.export.dir can serve their files with Range support. Finished jobs and their files are removed
+ * app.export.ttl after they finish, but not while one of their files is being downloaded.
+ */
+@Service
+@Slf4j
+public class ExportJobService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final List<ExportJobStatus.State> UNFINISHED =
+            List.of(ExportJobStatus.State.PENDING, ExportJobStatus.State.RUNNING);
+
+    private final ExportService exportService;
+    private final ExportJobRepository repository;
+    private final Path directory;
+    private final Duration ttl;
+    private final Duration abandonAfter;
+    private final Duration downloadIdle;
+    private final Semaphore renders;
+    // Downloads in progress on this instance, per job
+    private final Map<UUID, Integer> downloads = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ExportJobService(ExportService exportService,
+                            ExportJobRepository repository,
+                            @Value("${app.export.dir:${java.io.tmpdir}/hiretrack-exports}") String directory,
+                            @Value("${app.export.ttl:1h}") Duration ttl,
+                            @Value("${app.export.abandon-after:6h}") Duration abandonAfter,
+                            @Value("${app.export.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                            @Value("${app.export.cleanup-interval-ms:60000}") long cleanupIntervalMs) throws IOException {
+        this.exportService = exportService;
+        this.repository = repository;
+        this.directory = Files.createDirectories(Path.of(directory));
+        this.ttl = ttl;
+        this.abandonAfter = abandonAfter;
+        // Every instance's cleanup refreshes the jobs it is serving, so two missed refreshes mean the download is over
+        this.downloadIdle = Duration.ofMillis(2 * cleanupIntervalMs);
+        this.renders = new Semaphore(maxConcurrentJobs);
+    }
+
+    /**
+     * Start exporting a user's applications. If the user already has a job that is pending or running,
+     * on any instance, that job is returned instead of starting another one.
+     */
+    public ExportJobStatus submit(String userEmail) {
+        while (true) {
+            Optional<ExportJob> unfinished = repository.findFirstByUserEmailAndStateIn(userEmail, UNFINISHED);
+            if (unfinished.isPresent()) {
+                return unfinished.get().toStatus();
+            }
+            UUID id = UUID.randomUUID();
+            Instant now = Instant.now();
+            if (repository.createIfNoneUnfinished(id, userEmail, now) == 1) {
+                executor.submit(() -> render(id, userEmail));
+                log.info("Export job {} submitted for user: {}", id, userEmail);
+                return new ExportJobStatus(id, userEmail, ExportJobStatus.State.PENDING, now, null, null, null, null);
+            }
+            // Another request created a job for the user in the meantime; return that one
+        }
+    }
+
+    public Optional<ExportJobStatus> getStatus(UUID jobId, String userEmail) {
+        return repository.findByIdAndUserEmail(jobId, userEmail).map(ExportJob::toStatus);
+    }
+
+    /**
+     * File of a completed job, which is kept while it is being read; empty if the job has not completed,
+     * has expired, or its file is not in app.export.dir as seen from this instance
+     */
+    public Optional<Resource> getDownload(UUID jobId, String userEmail) {
+        Optional<ExportJob> job = repository.findByIdAndUserEmail(jobId, userEmail)
+                .filter(candidate -> candidate.getState() == ExportJobStatus.State.COMPLETED);
+        if (job.isEmpty()) {
+            return Optional.empty();
+        }
+        Path file = file(jobId);
+        if (!Files.isRegularFile(file)) {
+            log.warn("File of export job {} is missing; is {} shared by all instances?", jobId, directory);
+            return Optional.empty();
+        }
+        repository.markDownloading(Set.of(jobId), Instant.now());
+        return Optional.of(new DownloadResource(jobId, file));
+    }
+
+    /**
+     * Remove jobs, and their files, whose time to live has passed and that are not being downloaded
+     */
+    @Scheduled(fixedDelayString = "${app.export.cleanup-interval-ms:60000}")
+    public void removeExpiredJobs() {
+        Instant now = Instant.now();
+        if (!downloads.isEmpty()) {
+            repository.markDownloading(Set.copyOf(downloads.keySet()), now);
+        }
+        int abandoned = repository.failAbandoned(UNFINISHED, ExportJobStatus.State.FAILED, now.minus(abandonAfter), now);
+        if (abandoned > 0) {
+            log.warn("Failed {} export job(s) not finished within {}", abandoned, abandonAfter);
+        }
+        for (UUID id : repository.findExpiredIds(now)) {
+            if (repository.deleteIfExpired(id, now, now.minus(downloadIdle)) == 1) {
+                deleteQuietly(file(id));
+                deleteQuietly(part(id));
+                log.debug("Export job {} expired", id);
+            }
+        }
+    }
+
+    private void render(UUID id, String userEmail) {
+        Path part = part(id);
+        try {
+            renders.acquire();
+            try {
+                repository.updateState(id, ExportJobStatus.State.RUNNING);
+                long start = System.nanoTime();
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part,
+                        StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE), WRITE_BUFFER_SIZE)) {
+                    exportService.streamCSV(userEmail, out);
+                }
+                // The file only appears under its final name once it is complete
+                Path file = Files.move(part, file(id), StandardCopyOption.ATOMIC_MOVE);
+                long sizeBytes = Files.size(file);
+                Instant now = Instant.now();
+                repository.finish(id, ExportJobStatus.State.COMPLETED, sizeBytes, null, now, now.plus(ttl));
+                log.info("Export job {} for user {} completed in {} ms ({} bytes)", id, userEmail,
+                        Duration.ofNanos(System.nanoTime() - start).toMillis(), sizeBytes);
+            } finally {
+                renders.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            deleteQuietly(part);
+            fail(id, "Export was interrupted");
+        } catch (IOException | RuntimeException e) {
+            log.error("Export job {} for user {} failed", id, userEmail, e);
+            deleteQuietly(part);
+            fail(id, "Export failed");
+        }
+    }
+
+    // If even this fails, the job is failed as abandoned later
+    private void fail(UUID id, String error) {
+        try {
+            Instant now = Instant.now();
+            repository.finish(id, ExportJobStatus.State.FAILED, null, error, now, now.plus(ttl));
+        } catch (RuntimeException e) {
+            log.warn("Failed to record the failure of export job {}", id, e);
+        }
+    }
+
+    private Path file(UUID id) {
+        return directory.resolve(id + ".csv");
+    }
+
+    private Path part(UUID id) {
+        return directory.resolve(id + ".csv.part");
+    }
+
+    private void release(UUID jobId) {
+        downloads.computeIfPresent(jobId, (id, count) -> count == 1 ? null : count - 1);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete export file: {}", file, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Counts as a download in progress from the moment its content is opened until it is closed
+    private final class DownloadResource extends FileSystemResource {
+
+        private final UUID jobId;
+
+        DownloadResource(UUID jobId, Path file) {
+            super(file);
+            this.jobId = jobId;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            downloads.merge(jobId, 1, Integer::sum);
+            try {
+                return new FilterInputStream(super.getInputStream()) {
+                    private final AtomicBoolean closed = new AtomicBoolean();
+
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            if (closed.compareAndSet(false, true)) {
+                                release(jobId);
+                            }
+                        }
+                    }
+                };
+            } catch (IOException | RuntimeException e) {
+                release(jobId);
+                throw e;
+            }
+        }
+    }
+}
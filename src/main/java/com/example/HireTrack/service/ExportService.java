@@ -1,51 +1,160 @@
 package com.example.HireTrack.service;
 
+import com.example.HireTrack.datasource.ReadYourWrites;
+import com.example.HireTrack.dto.ExportFormat;
 import com.example.HireTrack.model.JobApplication;
-import com.example.HireTrack.model.User;
+import com.example.HireTrack.repository.JobApplicationRepository;
+import com.example.HireTrack.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 @Service
 @RequiredArgsConstructor
+@Timed("hiretrack.service")
 @Slf4j
 public class ExportService {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String CSV_HEADER = "ID,Company,Position,Status,Applied Date,Notes,Created At,Updated At\n";
+    private static final int WRITE_BUFFER_SIZE = 8 * 1024;
+
+    private final JobApplicationRepository repository;
+    private final UserRepository userRepository;
+    private final ReadYourWrites readYourWrites;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
 
     /**
-     * Export user's job applications as CSV
+     * Stream a user's job applications as CSV straight to the given output stream
      */
-    public byte[] exportToCSV(User user, List<JobApplication> applications) {
-        StringBuilder csv = new StringBuilder();
-        
-        // CSV Header
-        csv.append("ID,Company,Position,Status,Applied Date,Notes,Created At,Updated At\n");
-        
-        // CSV Data
-        for (JobApplication app : applications) {
-            csv.append(escapeCSV(app.getId().toString())).append(",")
-                .append(escapeCSV(app.getCompany())).append(",")
-                .append(escapeCSV(app.getPosition())).append(",")
-                .append(escapeCSV(app.getStatus().toString())).append(",")
-                .append(app.getAppliedDate() != null ? escapeCSV(app.getAppliedDate().format(DATE_FORMATTER)) : "").append(",")
-                .append(escapeCSV(app.getNotes() != null ? app.getNotes() : "")).append(",")
-                .append(app.getCreatedAt() != null ? escapeCSV(app.getCreatedAt().format(DATETIME_FORMATTER)) : "").append(",")
-                .append(app.getUpdatedAt() != null ? escapeCSV(app.getUpdatedAt().format(DATETIME_FORMATTER)) : "")
-                .append("\n");
-        }
-        
-        return csv.toString().getBytes();
+    @Transactional(readOnly = true)
+    public void streamCSV(String userEmail, OutputStream out) throws IOException {
+        export(userEmail, ExportFormat.CSV, false, out);
+    }
+
+    /**
+     * Stream a user's job applications in the given format straight to the given output stream, encoded as
+     * UTF-8 and, if requested, gzip-compressed on the fly, all in a single pass.
+     * Applications are read through a forward-only cursor and detached as soon as they are written,
+     * so memory stays flat regardless of how many applications the user has. The application list cache is
+     * bypassed: an export reads every page once, and caching them would only evict pages users do browse.
+     */
+    @Transactional(readOnly = true)
+    public void export(String userEmail, ExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        readYourWrites.readingFor(userEmail);
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, WRITE_BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(compressed != null ? compressed : out,
+                StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        RowWriter rows = format == ExportFormat.NDJSON ? new NdjsonRowWriter(writer) : new CsvRowWriter(writer);
+
+        Long userId = userRepository.findIdByEmail(userEmail)
+                .orElseThrow(() -> new RuntimeException("User not found with email: " + userEmail));
+        int count = 0;
+        try (Stream<JobApplication> applications = repository.streamByUserId(userId)) {
+            Iterator<JobApplication> iterator = applications.iterator();
+            while (iterator.hasNext()) {
+                JobApplication app = iterator.next();
+                rows.write(app);
+                entityManager.detach(app);
+                count++;
+            }
+        }
+        log.debug("Streamed {} application(s) as {} for user: {}", count, format, userEmail);
+
+        rows.flush();
+        if (compressed != null) {
+            // Writes the gzip trailer without closing the caller's stream
+            compressed.finish();
+        }
+    }
+
+    private static void appendRow(Appendable out, JobApplication app) throws IOException {
+        out.append(escapeCSV(app.getId().toString())).append(",")
+            .append(escapeCSV(app.getCompany())).append(",")
+            .append(escapeCSV(app.getPosition())).append(",")
+            .append(escapeCSV(app.getStatus().toString())).append(",")
+            .append(app.getAppliedDate() != null ? escapeCSV(app.getAppliedDate().format(DATE_FORMATTER)) : "").append(",")
+            .append(escapeCSV(app.getNotes() != null ? app.getNotes() : "")).append(",")
+            .append(app.getCreatedAt() != null ? escapeCSV(app.getCreatedAt().format(DATETIME_FORMATTER)) : "").append(",")
+            .append(app.getUpdatedAt() != null ? escapeCSV(app.getUpdatedAt().format(DATETIME_FORMATTER)) : "")
+            .append("\n");
+    }
+
+    private interface RowWriter extends Flushable {
+
+        void write(JobApplication app) throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write(CSV_HEADER);
+        }
+
+        @Override
+        public void write(JobApplication app) throws IOException {
+            appendRow(writer, app);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+    }
+
+    // One JSON object per line, serialized with the application's ObjectMapper (same fields as the JSON API)
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator json;
+        private final ObjectWriter rowWriter;
+
+        NdjsonRowWriter(Writer writer) throws IOException {
+            this.json = objectMapper.getFactory().createGenerator(writer);
+            // Rows are separated by the newlines written below, and flushing every row would defeat the buffer
+            json.setRootValueSeparator(null);
+            this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        public void write(JobApplication app) throws IOException {
+            rowWriter.writeValue(json, app);
+            json.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            json.flush();
+        }
     }
 
     /**
      * Escape CSV special characters
      */
-    private String escapeCSV(String value) {
+    static String escapeCSV(String value) {
         if (value == null) {
             return "";
         }
@@ -56,4 +165,3 @@ public class ExportService {
         return value;
     }
 }
-
@@ -1,71 +1,397 @@
 package com.example.HireTrack.service;
 
+import com.example.HireTrack.cache.ApplicationListCache;
+import com.example.HireTrack.datasource.ReadYourWrites;
+import com.example.HireTrack.dto.ApplicationStats;
+import com.example.HireTrack.dto.BatchItemResult;
+import com.example.HireTrack.dto.CursorPage;
+import com.example.HireTrack.dto.Cursors;
+import com.example.HireTrack.dto.DateBucket;
+import com.example.HireTrack.dto.JobApplicationView;
+import com.example.HireTrack.dto.LabelCount;
+import com.example.HireTrack.dto.SearchHitView;
+import com.example.HireTrack.dto.StatusCountView;
+import com.example.HireTrack.dto.StatusUpdate;
+import com.example.HireTrack.event.ApplicationChangeEvent;
+import com.example.HireTrack.model.ApplicationKeyset;
 import com.example.HireTrack.model.ApplicationStatus;
 import com.example.HireTrack.model.JobApplication;
 import com.example.HireTrack.model.User;
 import com.example.HireTrack.repository.JobApplicationRepository;
 import com.example.HireTrack.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("hiretrack.service")
 public class JobApplicationService {
     
     private final JobApplicationRepository repository;
     private final UserRepository userRepository;
+    private final ApplicationListCache cache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReadYourWrites readYourWrites;
+    
+    @Value("${app.stats.summary.enabled:false}")
+    private boolean statusSummaryEnabled;
+    
+    // Listings (1-4, 12) return immutable items of the requested type: a read-only projection such as
+    // JobApplicationSummary, or JobApplicationView copies of the entities. Cached pages are shared by every
+    // caller, so they never hold entities. Listings run in read-only transactions, so Hibernate keeps no
+    // snapshots of loaded entities and never flushes. With read replicas enabled, read-only transactions go to a replica,
+    // except a user's own reads (2, 4, 11-13) shortly after they wrote.
     
     // 1. Get all applications in database
-    public Page<JobApplication> getAllApplications(Pageable pageable) {
-        return repository.findAllByOrderByAppliedDateDesc(pageable);
+    @Transactional(readOnly = true)
+    public <T extends ApplicationKeyset> CursorPage<T> getAllApplications(String cursor, int size, Class<T> type) {
+        return page(repository.findAllByOrderByAppliedDateDescIdDesc(Cursors.applicationPosition(cursor), Limit.of(size),
+                queryType(type)), type);
     }
     
     // 2. Get all applications for a specific user
-    public List<JobApplication> getAllApplicationsByUser(String userEmail) {
-        return repository.findByUserEmailOrderByAppliedDateDesc(userEmail);
+    @Transactional(readOnly = true)
+    public <T extends ApplicationKeyset> CursorPage<T> getAllApplicationsByUser(String userEmail, String cursor, int size,
+                                                                             Class<T> type) {
+        readYourWrites.readingFor(userEmail);
+        return cache.get(userEmail, null, cursor, size, type, () -> userId(userEmail)
+                .map(userId -> page(repository.findByUserIdOrderByAppliedDateDescIdDesc(userId,
+                        Cursors.applicationPosition(cursor), Limit.of(size), queryType(type)), type))
+                .orElseGet(CursorPage::empty));
     }
     
     // 3. Get all applications with a particular status
-    public List<JobApplication> getAllApplicationsByStatus(ApplicationStatus status) {
-        return repository.findByStatusOrderByAppliedDateDesc(status);
+    @Transactional(readOnly = true)
+    public <T extends ApplicationKeyset> CursorPage<T> getAllApplicationsByStatus(ApplicationStatus status, String cursor,
+                                                                               int size, Class<T> type) {
+        // Open statuses are never archived, so their listings skip the archive partition
+        ScrollPosition position = Cursors.applicationPosition(cursor);
+        return page(status.isArchivable()
+                        ? repository.findByStatusOrderByAppliedDateDescIdDesc(status, position, Limit.of(size), queryType(type))
+                        : repository.findByStatusAndArchivedFalseOrderByAppliedDateDescIdDesc(status, position,
+                                Limit.of(size), queryType(type)),
+                type);
     }
     
     // 4. Get all applications of a user with a particular status
-    public List<JobApplication> getUserApplicationsByStatus(String userEmail, ApplicationStatus status) {
-        return repository.findByUserEmailAndStatusOrderByAppliedDateDesc(userEmail, status);
+    @Transactional(readOnly = true)
+    public <T extends ApplicationKeyset> CursorPage<T> getUserApplicationsByStatus(String userEmail, ApplicationStatus status,
+                                                                                String cursor, int size, Class<T> type) {
+        readYourWrites.readingFor(userEmail);
+        return cache.get(userEmail, status, cursor, size, type, () -> userId(userEmail)
+                .map(userId -> page(status.isArchivable()
+                                ? repository.findByUserIdAndStatusOrderByAppliedDateDescIdDesc(userId, status,
+                                        Cursors.applicationPosition(cursor), Limit.of(size), queryType(type))
+                                : repository.findByUserIdAndStatusAndArchivedFalseOrderByAppliedDateDescIdDesc(userId,
+                                        status, Cursors.applicationPosition(cursor), Limit.of(size), queryType(type)),
+                        type))
+                .orElseGet(CursorPage::empty));
     }
     
+    // Writes (5-10) publish one ApplicationChangeEvent each, broadcast to the user's event streams once the
+    // transaction commits: the change itself for single writes, a RESYNC for batches, so a batch costs one
+    // NOTIFY however many applications it touches
+    
     // 5. Create an application for a user
     @Transactional
     public JobApplication createApplication(JobApplication application, String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new RuntimeException("User not found with email: " + userEmail));
         application.setUser(user);
-        return repository.save(application);
+        JobApplication saved = repository.save(application);
+        cache.evictUser(userEmail);
+        eventPublisher.publishEvent(ApplicationChangeEvent.created(userEmail, saved.getId(), saved.getStatus()));
+        return saved;
     }
     
-    // 6. Update status of a particular application of a user
+    // 6. Update status of a particular application of a user. If expectedVersion is given the update only
+    // applies to that version; a concurrent update that commits first makes this one fail at flush (@Version)
+    // instead of being silently overwritten
     @Transactional
-    public JobApplication updateApplicationStatus(UUID id, ApplicationStatus status, String userEmail) {
-        JobApplication application = repository.findByIdAndUserEmail(id, userEmail)
+    public JobApplication updateApplicationStatus(UUID id, ApplicationStatus status, String userEmail, Long expectedVersion) {
+        JobApplication application = userId(userEmail)
+                .flatMap(userId -> repository.findByIdAndUserId(id, userId))
                 .orElseThrow(() -> new RuntimeException("Job application not found with id: " + id + " for user: " + userEmail));
+        if (expectedVersion != null && !expectedVersion.equals(application.getVersion())) {
+            throw new OptimisticLockingFailureException("Job application " + id + " is at version "
+                    + application.getVersion() + ", not " + expectedVersion);
+        }
         application.setStatus(status);
-        return repository.save(application);
+        JobApplication saved = repository.save(application);
+        cache.evictUser(userEmail);
+        eventPublisher.publishEvent(ApplicationChangeEvent.statusUpdated(userEmail, id, status));
+        return saved;
     }
     
     // 7. Delete an application
     @Transactional
     public void deleteApplication(UUID id, String userEmail) {
-        if (!repository.existsByIdAndUserEmail(id, userEmail)) {
+        if (userId(userEmail).filter(userId -> repository.existsByIdAndUserId(id, userId)).isEmpty()) {
             throw new RuntimeException("Job application not found with id: " + id + " for user: " + userEmail);
         }
         repository.deleteById(id);
+        cache.evictUser(userEmail);
+        eventPublisher.publishEvent(ApplicationChangeEvent.deleted(userEmail, id));
+    }
+    
+    // 8. Create many applications for a user in one transaction (inserts are JDBC-batched)
+    @Transactional
+    public List<BatchItemResult> createApplications(List<JobApplication> applications, String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new RuntimeException("User not found with email: " + userEmail));
+        
+        List<BatchItemResult> results = new ArrayList<>(applications.size());
+        List<JobApplication> valid = new ArrayList<>(applications.size());
+        for (int i = 0; i < applications.size(); i++) {
+            JobApplication application = applications.get(i);
+            String error = validate(application);
+            if (error != null) {
+                results.add(BatchItemResult.failed(i, null, 400, error));
+                continue;
+            }
+            application.setUser(user);
+            valid.add(application);
+            results.add(null);
+        }
+        
+        repository.saveAll(valid);
+        cache.evictUser(userEmail);
+        
+        // Ids are assigned on persist, so fill in the successful results afterwards
+        int next = 0;
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) == null) {
+                results.set(i, BatchItemResult.ok(i, valid.get(next++).getId(), 201));
+            }
+        }
+        if (!valid.isEmpty()) {
+            eventPublisher.publishEvent(ApplicationChangeEvent.resync(userEmail));
+        }
+        return results;
+    }
+    
+    // 9. Update the status of many applications of a user in one transaction (updates are JDBC-batched)
+    @Transactional
+    public List<BatchItemResult> updateApplicationStatuses(List<StatusUpdate> updates, String userEmail) {
+        Set<UUID> ids = new HashSet<>();
+        updates.forEach(update -> ids.add(update.id()));
+        ids.remove(null);
+        Map<UUID, JobApplication> owned = new HashMap<>();
+        Optional<Long> userId = userId(userEmail);
+        if (!ids.isEmpty() && userId.isPresent()) {
+            repository.findByIdInAndUserId(ids, userId.get()).forEach(application -> owned.put(application.getId(), application));
+        }
+        
+        List<BatchItemResult> results = new ArrayList<>(updates.size());
+        boolean changed = false;
+        for (int i = 0; i < updates.size(); i++) {
+            StatusUpdate update = updates.get(i);
+            ApplicationStatus status = parseStatus(update.status());
+            JobApplication application = owned.get(update.id());
+            if (status == null) {
+                results.add(BatchItemResult.failed(i, update.id(), 400, "Invalid status: " + update.status()));
+            } else if (application == null) {
+                results.add(BatchItemResult.failed(i, update.id(), 404,
+                        "Job application not found with id: " + update.id() + " for user: " + userEmail));
+            } else {
+                application.setStatus(status);
+                results.add(BatchItemResult.ok(i, update.id(), 200));
+                changed = true;
+            }
+        }
+        
+        cache.evictUser(userEmail);
+        if (changed) {
+            eventPublisher.publishEvent(ApplicationChangeEvent.resync(userEmail));
+        }
+        return results;
+    }
+    
+    // 10. Delete many applications of a user with a single set-based DELETE
+    @Transactional
+    public List<BatchItemResult> deleteApplications(List<UUID> ids, String userEmail) {
+        Set<UUID> requested = ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<UUID> owned = new HashSet<>();
+        Optional<Long> userId = userId(userEmail);
+        if (!requested.isEmpty() && userId.isPresent()) {
+            owned.addAll(repository.findOwnedIds(requested, userId.get()));
+        }
+        repository.deleteAllByIdInBatch(owned);
+        cache.evictUser(userEmail);
+        if (!owned.isEmpty()) {
+            eventPublisher.publishEvent(ApplicationChangeEvent.resync(userEmail));
+        }
+        
+        List<BatchItemResult> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            UUID id = ids.get(i);
+            results.add(owned.contains(id)
+                    ? BatchItemResult.ok(i, id, 204)
+                    : BatchItemResult.failed(i, id, 404, "Job application not found with id: " + id + " for user: " + userEmail));
+        }
+        return results;
+    }
+    
+    // 11. Aggregate counts per status, company and applied-date bucket (plus per user for global stats).
+    // Counting happens in the database; only the top groups come back. Global status counts are read
+    // from the application_status_summary view when app.stats.summary.enabled is set.
+    @Transactional(readOnly = true)
+    public ApplicationStats getStats(String userEmail, DateBucket bucket, int top) {
+        Pageable topGroups = PageRequest.of(0, top);
+        LocalDate since = bucket.since(LocalDate.now());
+        
+        if (userEmail != null) {
+            readYourWrites.readingFor(userEmail);
+            Long userId = userId(userEmail)
+                    .orElseThrow(() -> new RuntimeException("User not found with email: " + userEmail));
+            Map<ApplicationStatus, Long> byStatus = statusCounts(repository.countByStatusForUser(userId));
+            return new ApplicationStats(userEmail, total(byStatus), byStatus, null,
+                    repository.countByCompanyForUser(userId, topGroups).stream().map(LabelCount::of).toList(),
+                    bucket,
+                    repository.countByAppliedDateBucketForUser(userId, bucket.truncUnit(), since).stream()
+                            .map(LabelCount::of).toList());
+        }
+        
+        Map<ApplicationStatus, Long> byStatus = statusCounts(statusSummaryEnabled
+                ? repository.countByStatusFromSummary()
+                : repository.countByStatus());
+        return new ApplicationStats(null, total(byStatus), byStatus,
+                repository.countByUser(topGroups).stream().map(LabelCount::of).toList(),
+                repository.countByCompany(topGroups).stream().map(LabelCount::of).toList(),
+                bucket,
+                repository.countByAppliedDateBucket(bucket.truncUnit(), since).stream().map(LabelCount::of).toList());
+    }
+    
+    // 12. Full-text search over a user's applications, best match first. Matches are found and ranked
+    // through the GIN index, paged on (rank, id), and only the page's applications are loaded.
+    @Transactional(readOnly = true)
+    public <T extends ApplicationKeyset> CursorPage<T> searchApplications(String userEmail, String query, String cursor,
+                                                                       int size, Class<T> type) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        Cursors.SearchPosition after = Cursors.searchPosition(cursor);
+        readYourWrites.readingFor(userEmail);
+        Optional<Long> userId = userId(userEmail);
+        if (userId.isEmpty()) {
+            return CursorPage.empty();
+        }
+        // One extra hit tells whether another page follows
+        List<SearchHitView> hits = after == null
+                ? repository.searchFirst(userId.get(), query, size + 1)
+                : repository.searchAfter(userId.get(), query, after.rank(), after.id(), size + 1);
+        if (hits.isEmpty()) {
+            return CursorPage.empty();
+        }
+        boolean hasNext = hits.size() > size;
+        if (hasNext) {
+            hits = hits.subList(0, size);
+        }
+        
+        Map<UUID, T> byId = repository.findByIdIn(hits.stream().map(SearchHitView::getId).toList(), queryType(type))
+                .stream()
+                .map(item -> view(item, type))
+                .collect(Collectors.toMap(ApplicationKeyset::getId, Function.identity()));
+        List<T> items = hits.stream()
+                .map(hit -> byId.get(hit.getId()))
+                .filter(Objects::nonNull)
+                .toList();
+        
+        SearchHitView last = hits.get(hits.size() - 1);
+        String nextCursor = hasNext ? Cursors.searchCursor(last.getRank(), last.getId()) : null;
+        return new CursorPage<>(items, nextCursor, hasNext);
+    }
+    
+    // 13. Get a single application of a user
+    @Transactional(readOnly = true)
+    public Optional<JobApplication> getApplication(UUID id, String userEmail) {
+        readYourWrites.readingFor(userEmail);
+        return userId(userEmail).flatMap(userId -> repository.findByIdAndUserId(id, userId));
+    }
+    
+    // Applications reference their user by id; the email-to-id lookup is served from the query cache
+    private Optional<Long> userId(String userEmail) {
+        return userRepository.findIdByEmail(userEmail);
+    }
+    
+    // Every status is present, with 0 for statuses that have no applications
+    private static Map<ApplicationStatus, Long> statusCounts(List<StatusCountView> rows) {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (StatusCountView row : rows) {
+            counts.put(row.getStatus(), row.getCount());
+        }
+        return counts;
+    }
+    
+    private static long total(Map<ApplicationStatus, Long> byStatus) {
+        return byStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+    
+    // Listings of JobApplicationView query the entity and copy it
+    private static Class<?> queryType(Class<?> type) {
+        return type == JobApplicationView.class ? JobApplication.class : type;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> T view(Object item, Class<T> type) {
+        return type == JobApplicationView.class ? (T) JobApplicationView.of((JobApplication) item) : (T) item;
+    }
+    
+    private static <T extends ApplicationKeyset> CursorPage<T> page(Window<?> window, Class<T> type) {
+        return CursorPage.of(window.map(item -> view(item, type)), Cursors::applicationCursor);
+    }
+    
+    private static String validate(JobApplication application) {
+        if (application == null) {
+            return "Application is required";
+        }
+        if (application.getCompany() == null || application.getCompany().isBlank()) {
+            return "Company is required";
+        }
+        if (application.getPosition() == null || application.getPosition().isBlank()) {
+            return "Position is required";
+        }
+        if (application.getStatus() == null) {
+            return "Status is required";
+        }
+        return null;
+    }
+    
+    private static ApplicationStatus parseStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        try {
+            return ApplicationStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 }
-
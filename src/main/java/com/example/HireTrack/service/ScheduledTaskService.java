@@ -2,16 +2,31 @@ package com.example.HireTrack.service;
 
 import com.example.HireTrack.model.ApplicationStatus;
 import com.example.HireTrack.model.JobApplication;
+import com.example.HireTrack.model.ReminderRun;
+import com.example.HireTrack.model.ReminderRunId;
 import com.example.HireTrack.model.User;
 import com.example.HireTrack.repository.JobApplicationRepository;
-import com.example.HireTrack.repository.UserRepository;
+import com.example.HireTrack.repository.ReminderRunRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.SimpleMailMessage;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 @RequiredArgsConstructor
@@ -19,64 +34,174 @@ import java.util.List;
 public class ScheduledTaskService {
 
     private final JobApplicationRepository jobApplicationRepository;
-    private final UserRepository userRepository;
+    private final ReminderRunRepository reminderRunRepository;
     private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
+    private final ShardLeaseService shardLeaseService;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean processing = new AtomicBoolean();
+
+    @Value("${app.reminder.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${app.reminder.shards:16}")
+    private int shards;
 
     /**
-     * Sends daily reminder emails to users with APPLIED applications.
-     * Runs every day at 9:00 AM (server time).
+     * Queues daily reminder emails for users with APPLIED applications.
+     * Runs on the schedule configured by app.reminder.cron (default: every day at 9:00 AM server time).
      * Cron expression: second minute hour day month weekday
      * 0 0 9 * * * = Every day at 9:00 AM
+     *
+     * Users are split into app.reminder.shards shards by a hash of their email. Every replica fires,
+     * registers the day's shards and then works through whichever shards it can lease, so the work
+     * spreads across replicas instead of being repeated on each of them.
      */
-    @Scheduled(cron = "0 0 9 * * *")
-    @Transactional(readOnly = true)
+    @Scheduled(cron = "${app.reminder.cron}")
     public void sendDailyApplicationReminders() {
         log.info("Starting daily application reminder job...");
-        
+
         try {
-            // Find all distinct user emails who have APPLIED applications
-            List<String> userEmails = jobApplicationRepository
-                    .findDistinctUserEmailsByStatus(ApplicationStatus.APPLIED);
-            
-            if (userEmails.isEmpty()) {
-                log.info("No users with APPLIED applications found. Skipping email reminders.");
-                return;
-            }
-            
-            log.info("Found {} users with APPLIED applications. Sending reminder emails...", userEmails.size());
-            
-            int successCount = 0;
-            int failureCount = 0;
-            
-            for (String email : userEmails) {
-                try {
-                    // Get user details
-                    User user = userRepository.findByEmail(email)
-                            .orElseThrow(() -> new RuntimeException("User not found: " + email));
-                    
-                    // Get all APPLIED applications for this user
-                    List<JobApplication> appliedApplications = jobApplicationRepository
-                            .findByUserEmailAndStatus(email, ApplicationStatus.APPLIED);
-                    
-                    if (!appliedApplications.isEmpty()) {
-                        emailService.sendApplicationReminder(
-                                user.getEmail(),
-                                user.getName(),
-                                appliedApplications
-                        );
-                        successCount++;
-                    }
-                } catch (Exception e) {
-                    log.error("Failed to send reminder email to user: {}", email, e);
-                    failureCount++;
+            LocalDate today = LocalDate.now();
+            LocalDateTime now = LocalDateTime.now();
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                for (int shard = 0; shard < shards; shard++) {
+                    reminderRunRepository.createIfAbsent(today, shard, now);
                 }
-            }
-            
-            log.info("Daily reminder job completed. Success: {}, Failures: {}", successCount, failureCount);
-            
+            });
+            processAvailableShards(today);
         } catch (Exception e) {
             log.error("Error in daily application reminder job", e);
         }
     }
-}
 
+    /**
+     * Picks up shards of today's run that are unfinished and not leased, e.g. because the replica
+     * that was processing them died. Does nothing before the day's run has been started.
+     */
+    @Scheduled(fixedDelayString = "${app.reminder.takeover-interval-ms:60000}")
+    public void takeOverAbandonedShards() {
+        try {
+            processAvailableShards(LocalDate.now());
+        } catch (Exception e) {
+            log.error("Error while taking over abandoned reminder shards", e);
+        }
+    }
+
+    private void processAvailableShards(LocalDate runDate) {
+        if (!processing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Integer> pending = new ArrayList<>(reminderRunRepository.findIncompleteShards(runDate));
+            // Replicas start at different shards so they rarely contend for the same lease
+            Collections.shuffle(pending);
+            for (int shard : pending) {
+                if (shardLeaseService.tryAcquire(shard)) {
+                    try {
+                        processShard(runDate, shard);
+                    } finally {
+                        shardLeaseService.release(shard);
+                    }
+                }
+            }
+        } finally {
+            processing.set(false);
+        }
+    }
+
+    /**
+     * Users are processed in chunks: one query picks the next chunk of emails and one join query
+     * loads their users and APPLIED applications. The rendered reminders are written to the email
+     * outbox in the same transaction that records the shard's progress and renews its lease, so an
+     * interrupted shard resumes where it stopped and a retried shard never queues a reminder twice.
+     * Delivery is done by {@link EmailOutboxService#relay()}.
+     */
+    private void processShard(LocalDate runDate, int shard) {
+        ReminderRunId runId = new ReminderRunId(runDate, shard);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long shardStart = System.nanoTime();
+        int users = 0;
+        int enqueued = 0;
+
+        while (true) {
+            long chunkStart = System.nanoTime();
+            ChunkResult chunk = tx.execute(status -> enqueueNextChunk(runId));
+            if (chunk == null) {
+                break;
+            }
+            if (chunk.leaseLost()) {
+                log.warn("Lost the lease on reminder shard {}; leaving it to its new owner", shard);
+                recordShard("lease_lost", shardStart, enqueued);
+                return;
+            }
+
+            users += chunk.users();
+            enqueued += chunk.enqueued();
+            long chunkMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - chunkStart);
+            log.info("Reminder shard {}: chunk of {} users queued in {} ms ({} users/s). Enqueued: {}",
+                    shard, chunk.users(), chunkMillis, perSecond(chunk.users(), chunkMillis), chunk.enqueued());
+        }
+
+        tx.executeWithoutResult(status -> reminderRunRepository.findById(runId)
+                .ifPresent(completed -> completed.setCompleted(true)));
+
+        recordShard("completed", shardStart, enqueued);
+        long shardMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - shardStart);
+        log.info("Reminder shard {}/{} for {} completed in {} ms. Users: {} ({} users/s), Enqueued: {}",
+                shard, shards, runDate, shardMillis, users, perSecond(users, shardMillis), enqueued);
+    }
+
+    /**
+     * Queue reminders for the next chunk of the shard's users (in email order) after its resume point
+     * and advance the resume point, all in the caller's transaction. Returns null when no users are left.
+     */
+    private ChunkResult enqueueNextChunk(ReminderRunId runId) {
+        if (!shardLeaseService.renew(runId.getShard())) {
+            return ChunkResult.LEASE_LOST;
+        }
+        ReminderRun run = reminderRunRepository.findById(runId)
+                .orElseThrow(() -> new IllegalStateException("Reminder run not found: " + runId));
+        String afterEmail = run.getLastEmail() != null ? run.getLastEmail() : "";
+
+        List<String> emails = jobApplicationRepository.findDistinctUserEmailsByStatusInShardAfter(
+                ApplicationStatus.APPLIED.name(), shards, runId.getShard(), afterEmail, chunkSize);
+        if (emails.isEmpty()) {
+            return null;
+        }
+
+        Map<User, List<JobApplication>> byUser = new LinkedHashMap<>();
+        for (JobApplication application : jobApplicationRepository
+                .findWithUserByStatusAndUserEmailIn(ApplicationStatus.APPLIED, emails)) {
+            byUser.computeIfAbsent(application.getUser(), user -> new ArrayList<>()).add(application);
+        }
+
+        Map<String, SimpleMailMessage> reminders = new LinkedHashMap<>();
+        byUser.forEach((user, applications) -> reminders.put(
+                "reminder:" + runId.getRunDate() + ":" + user.getEmail(),
+                emailService.buildApplicationReminder(user.getEmail(), user.getName(), applications)));
+        int enqueued = emailOutboxService.enqueue(reminders);
+
+        run.recordChunk(emails.get(emails.size() - 1), enqueued);
+        return new ChunkResult(byUser.size(), enqueued, false);
+    }
+
+    private void recordShard(String outcome, long shardStart, int enqueued) {
+        Timer.builder("hiretrack.reminder.shard")
+                .description("Time spent processing one reminder shard")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - shardStart, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("hiretrack.reminder.enqueued").increment(enqueued);
+    }
+
+    private static long perSecond(int count, long millis) {
+        return millis > 0 ? count * 1000L / millis : count;
+    }
+
+    private record ChunkResult(int users, int enqueued, boolean leaseLost) {
+
+        static final ChunkResult LEASE_LOST = new ChunkResult(0, 0, true);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.HireTrack.service;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Postgres-backed leases over the reminder job's shards. A replica owns a shard while its lease is
+ * unexpired; lease times come from the database clock, so replicas do not need synchronised clocks.
+ * A shard whose owner died becomes claimable again once the lease runs out.
+ */
+@Service
+@Slf4j
+public class ShardLeaseService {
+
+    private static final String ACQUIRE_SQL = """
+            INSERT INTO reminder_shard_leases (shard, owner, lease_until)
+            VALUES (:shard, :owner, now() + make_interval(secs => :seconds))
+            ON CONFLICT (shard) DO UPDATE SET owner = EXCLUDED.owner, lease_until = EXCLUDED.lease_until
+            WHERE reminder_shard_leases.lease_until < now()
+            """;
+
+    private static final String RENEW_SQL = """
+            UPDATE reminder_shard_leases SET lease_until = now() + make_interval(secs => :seconds)
+            WHERE shard = :shard AND owner = :owner
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE reminder_shard_leases SET lease_until = now()
+            WHERE shard = :shard AND owner = :owner
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Duration lease;
+
+    @Getter
+    private final String owner;
+
+    public ShardLeaseService(NamedParameterJdbcTemplate jdbcTemplate,
+                             @Value("${app.reminder.lease:2m}") Duration lease,
+                             @Value("${app.instance-id:}") String instanceId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lease = lease;
+        String host = System.getenv().getOrDefault("HOSTNAME", "instance");
+        this.owner = (instanceId.isBlank() ? host : instanceId) + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Try to take the lease of a shard; fails if another replica holds an unexpired lease
+     */
+    public boolean tryAcquire(int shard) {
+        boolean acquired = jdbcTemplate.update(ACQUIRE_SQL, params(shard)) == 1;
+        if (acquired) {
+            log.debug("Acquired reminder shard {} as {}", shard, owner);
+        }
+        return acquired;
+    }
+
+    /**
+     * Extend a held lease; returns false if the lease expired and was taken over by another replica
+     */
+    public boolean renew(int shard) {
+        return jdbcTemplate.update(RENEW_SQL, params(shard)) == 1;
+    }
+
+    public void release(int shard) {
+        jdbcTemplate.update(RELEASE_SQL, params(shard));
+    }
+
+    private MapSqlParameterSource params(int shard) {
+        return new MapSqlParameterSource()
+                .addValue("shard", shard)
+                .addValue("owner", owner)
+                .addValue("seconds", (double) lease.toSeconds());
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.HireTrack.service;
+
+import com.example.HireTrack.repository.JobApplicationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the application_status_summary materialized view fresh while global stats are served from it.
+ * The refresh is CONCURRENTLY, so stats reads are never blocked, and writes to job_applications pay
+ * nothing for the summary.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.stats.summary.enabled", havingValue = "true")
+public class StatsSummaryRefresher {
+
+    private final JobApplicationRepository repository;
+
+    @Scheduled(fixedDelayString = "${app.stats.summary.refresh-interval-ms:60000}")
+    public void refresh() {
+        long start = System.nanoTime();
+        try {
+            repository.refreshStatusSummary();
+            log.debug("Refreshed application status summary in {} ms",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            log.error("Error refreshing application status summary", e);
+        }
+    }
+}
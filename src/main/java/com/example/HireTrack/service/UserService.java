@@ -1,10 +1,18 @@
 package com.example.HireTrack.service;
 
+import com.example.HireTrack.cache.ApplicationListCache;
+import com.example.HireTrack.datasource.ReadYourWrites;
+import com.example.HireTrack.dto.CursorPage;
+import com.example.HireTrack.dto.Cursors;
+import com.example.HireTrack.event.ApplicationChangeEvent;
+import com.example.HireTrack.event.UserChangeEvent;
 import com.example.HireTrack.model.User;
 import com.example.HireTrack.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,19 +20,30 @@ import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
+@Timed("hiretrack.service")
 public class UserService {
     
     private final UserRepository repository;
+    private final ApplicationListCache applicationCache;
+    private final ReadYourWrites readYourWrites;
+    private final ApplicationEventPublisher eventPublisher;
     
-    public Page<User> getAllUsers(Pageable pageable) {
-        return repository.findAll(pageable);
+    @Transactional(readOnly = true)
+    public CursorPage<User> getAllUsers(String cursor, int size) {
+        return CursorPage.of(
+                repository.findAllByOrderByEmailAsc(Cursors.userPosition(cursor), Limit.of(size)),
+                Cursors::userCursor);
     }
     
+    @Transactional(readOnly = true)
     public Optional<User> getUserByEmail(String email) {
+        readYourWrites.readingFor(email);
         return repository.findByEmail(email);
     }
     
+    @Transactional(readOnly = true)
     public boolean userExists(String email) {
+        readYourWrites.readingFor(email);
         return repository.existsByEmail(email);
     }
     
@@ -33,25 +52,46 @@ public class UserService {
         if (repository.existsByEmail(user.getEmail())) {
             throw new RuntimeException("User with email " + user.getEmail() + " already exists");
         }
-        return repository.save(user);
+        readYourWrites.recordWrite(user.getEmail());
+        User saved = repository.save(user);
+        // Other replicas may have cached that no user with this email exists
+        eventPublisher.publishEvent(new UserChangeEvent(saved.getEmail(), saved.getId()));
+        return saved;
     }
     
+    /**
+     * Update a user's details; if expectedVersion is given, only while the user is still at that version
+     */
     @Transactional
-    public User updateUser(String email, User userDetails) {
+    public User updateUser(String email, User userDetails, Long expectedVersion) {
         User user = repository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
+        if (expectedVersion != null && !expectedVersion.equals(user.getVersion())) {
+            throw new OptimisticLockingFailureException("User " + email + " is at version "
+                    + user.getVersion() + ", not " + expectedVersion);
+        }
         
         user.setName(userDetails.getName());
+        readYourWrites.recordWrite(email);
+        eventPublisher.publishEvent(new UserChangeEvent(email, user.getId()));
         
         return repository.save(user);
     }
     
+    /**
+     * Delete a user and all of their applications with one statement, however many applications they have
+     */
     @Transactional
     public void deleteUser(String email) {
-        if (!repository.existsByEmail(email)) {
+        if (repository.deleteByEmailInBatch(email) == 0) {
             throw new RuntimeException("User not found with email: " + email);
         }
-        repository.deleteById(email);
+        applicationCache.evictUser(email);
+        readYourWrites.recordWrite(email);
+        eventPublisher.publishEvent(new UserChangeEvent(email, null));
+        // The applications went with the user: every instance drops the user's cached pages and has their
+        // event stream subscribers reload
+        eventPublisher.publishEvent(ApplicationChangeEvent.resync(email));
     }
 }
 
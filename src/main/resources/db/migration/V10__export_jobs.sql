@@ -0,0 +1,19 @@
+-- Asynchronous export jobs, shared by every instance so that any of them can answer polls and downloads.
+-- The files themselves live in app.export.dir.
+CREATE TABLE export_jobs (
+    id                 UUID         NOT NULL,
+    user_email         VARCHAR(255) NOT NULL,
+    state              VARCHAR(20)  NOT NULL,
+    submitted_at       TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    completed_at       TIMESTAMP(6) WITH TIME ZONE,
+    expires_at         TIMESTAMP(6) WITH TIME ZONE,
+    size_bytes         BIGINT,
+    error              VARCHAR(255),
+    last_downloaded_at TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT export_jobs_pkey PRIMARY KEY (id)
+);
+
+-- At most one unfinished job per user, however many instances accept export requests
+CREATE UNIQUE INDEX uk_export_jobs_user_unfinished ON export_jobs (user_email) WHERE state IN ('PENDING', 'RUNNING');
+
+CREATE INDEX idx_export_jobs_expires_at ON export_jobs (expires_at);
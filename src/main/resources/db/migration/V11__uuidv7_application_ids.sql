@@ -0,0 +1,22 @@
+-- New application ids are time-ordered UUIDv7s (generated by the application, see UuidV7Generator), so
+-- inserts append to the right edge of job_applications_pkey instead of splitting random leaf pages.
+-- Existing random (v4) ids are kept: they are referenced by clients and both kinds coexist in one uuid column.
+-- The index bloat they caused can be reclaimed once, outside a transaction, with:
+--   REINDEX INDEX CONCURRENTLY job_applications_pkey;
+
+-- UUIDv7 from the database clock, for rows inserted with SQL rather than through JPA
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS uuid AS $$
+    -- Overwrite the first 48 bits of a random UUID with the Unix time in milliseconds and
+    -- turn its version 4 into version 7 (bits 52 and 53 complete the 0111 version nibble)
+    SELECT encode(
+        set_bit(
+            set_bit(
+                overlay(uuid_send(gen_random_uuid())
+                        PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                        FROM 1 FOR 6),
+                52, 1),
+            53, 1),
+        'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
+ALTER TABLE job_applications ALTER COLUMN id SET DEFAULT uuid_generate_v7();
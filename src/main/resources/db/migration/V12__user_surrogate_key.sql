@@ -0,0 +1,29 @@
+-- Users get a bigint surrogate key; email stays unique as the natural key. Applications reference users
+-- by user_id instead of carrying the email in every row and in every index on user_email.
+
+ALTER TABLE users ADD COLUMN id BIGINT GENERATED BY DEFAULT AS IDENTITY;
+
+ALTER TABLE job_applications ADD COLUMN user_id BIGINT;
+UPDATE job_applications j SET user_id = u.id FROM users u WHERE u.email = j.user_email;
+ALTER TABLE job_applications ALTER COLUMN user_id SET NOT NULL;
+
+-- CASCADE drops the old foreign key on user_email whatever it is called: fk_job_applications_user on
+-- databases created by V1, a generated FK... name on databases baselined from Hibernate's ddl-auto=update
+ALTER TABLE users DROP CONSTRAINT users_pkey CASCADE;
+ALTER TABLE users ADD CONSTRAINT users_pkey PRIMARY KEY (id);
+ALTER TABLE users ADD CONSTRAINT uk_users_email UNIQUE (email);
+ALTER TABLE job_applications
+    ADD CONSTRAINT fk_job_applications_user FOREIGN KEY (user_id) REFERENCES users (id);
+
+-- Also drops the indexes that lead with user_email (idx_job_applications_user_status_applied,
+-- idx_job_applications_user_applied, idx_job_applications_status_user); they are rebuilt on user_id
+ALTER TABLE job_applications DROP COLUMN user_email;
+
+CREATE INDEX idx_job_applications_user_status_applied
+    ON job_applications (user_id, status, applied_date DESC, id DESC);
+
+CREATE INDEX idx_job_applications_user_applied
+    ON job_applications (user_id, applied_date DESC, id DESC);
+
+CREATE INDEX idx_job_applications_status_user
+    ON job_applications (status, user_id);
@@ -0,0 +1,82 @@
+-- job_applications becomes a table partitioned on an archived flag: job_applications_hot holds the
+-- working set and job_applications_archive the old closed (REJECTED/HIRED) applications moved there by
+-- ApplicationArchiver. Queries that filter on archived = false only touch the hot partition and its
+-- (small) indexes; every other query, including exports, reads both partitions transparently.
+
+-- Depends on the table being replaced; recreated below
+DROP MATERIALIZED VIEW application_status_summary;
+
+ALTER TABLE job_applications RENAME TO job_applications_unpartitioned;
+ALTER INDEX job_applications_pkey RENAME TO job_applications_unpartitioned_pkey;
+DROP INDEX idx_job_applications_user_status_applied;
+DROP INDEX idx_job_applications_user_applied;
+DROP INDEX idx_job_applications_status_applied;
+DROP INDEX idx_job_applications_status_user;
+DROP INDEX idx_job_applications_applied;
+DROP INDEX idx_job_applications_company;
+DROP INDEX idx_job_applications_search;
+
+-- The partition key has to be part of the primary key
+CREATE TABLE job_applications (
+    id            UUID          NOT NULL DEFAULT uuid_generate_v7(),
+    company       VARCHAR(255)  NOT NULL,
+    position      VARCHAR(255)  NOT NULL,
+    status        VARCHAR(255)  NOT NULL,
+    applied_date  DATE          NOT NULL,
+    notes         VARCHAR(2000),
+    user_id       BIGINT        NOT NULL,
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    version       BIGINT        NOT NULL DEFAULT 0,
+    archived      BOOLEAN       NOT NULL DEFAULT false,
+    search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(company, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(position, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(notes, '')), 'C')
+    ) STORED,
+    CONSTRAINT job_applications_pkey PRIMARY KEY (id, archived),
+    CONSTRAINT fk_job_applications_user FOREIGN KEY (user_id) REFERENCES users (id)
+) PARTITION BY LIST (archived);
+
+CREATE TABLE job_applications_hot PARTITION OF job_applications FOR VALUES IN (false);
+CREATE TABLE job_applications_archive PARTITION OF job_applications FOR VALUES IN (true);
+
+INSERT INTO job_applications (id, company, position, status, applied_date, notes, user_id, created_at, updated_at, version)
+SELECT id, company, position, status, applied_date, notes, user_id, created_at, updated_at, version
+FROM job_applications_unpartitioned;
+
+DROP TABLE job_applications_unpartitioned;
+
+-- Same indexes as before, each with a named index per partition (<name>_hot, <name>_archive)
+DO $$
+DECLARE
+    idx       RECORD;
+    partition TEXT;
+BEGIN
+    FOR idx IN SELECT * FROM (VALUES
+            ('idx_job_applications_user_status_applied', '(user_id, status, applied_date DESC, id DESC)'),
+            ('idx_job_applications_user_applied', '(user_id, applied_date DESC, id DESC)'),
+            ('idx_job_applications_status_applied', '(status, applied_date DESC, id DESC)'),
+            ('idx_job_applications_status_user', '(status, user_id)'),
+            ('idx_job_applications_applied', '(applied_date DESC, id DESC)'),
+            ('idx_job_applications_company', '(company)'),
+            ('idx_job_applications_search', 'USING GIN (search_vector)')) AS t(name, definition)
+    LOOP
+        EXECUTE format('CREATE INDEX %I ON ONLY job_applications %s', idx.name, idx.definition);
+        FOREACH partition IN ARRAY ARRAY['hot', 'archive']
+        LOOP
+            EXECUTE format('CREATE INDEX %I ON job_applications_%s %s', idx.name || '_' || partition, partition,
+                           idx.definition);
+            EXECUTE format('ALTER INDEX %I ATTACH PARTITION %I', idx.name, idx.name || '_' || partition);
+        END LOOP;
+    END LOOP;
+END $$;
+
+CREATE MATERIALIZED VIEW application_status_summary AS
+SELECT status, count(*) AS total
+FROM job_applications
+GROUP BY status;
+
+CREATE UNIQUE INDEX idx_application_status_summary_status ON application_status_summary (status);
+
+ANALYZE job_applications;
@@ -0,0 +1,6 @@
+-- Deleting a user deletes their applications in the database, in the same statement, instead of
+-- Hibernate loading every application and deleting them one by one first.
+-- The cascade finds the rows through the user_id indexes.
+ALTER TABLE job_applications DROP CONSTRAINT fk_job_applications_user;
+ALTER TABLE job_applications
+    ADD CONSTRAINT fk_job_applications_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE;
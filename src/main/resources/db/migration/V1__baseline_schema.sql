@@ -0,0 +1,24 @@
+-- Baseline schema, matching what Hibernate previously generated with ddl-auto=update.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate).
+
+CREATE TABLE IF NOT EXISTS users (
+    email      VARCHAR(255) NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT users_pkey PRIMARY KEY (email)
+);
+
+CREATE TABLE IF NOT EXISTS job_applications (
+    id           UUID          NOT NULL,
+    company      VARCHAR(255)  NOT NULL,
+    position     VARCHAR(255)  NOT NULL,
+    status       VARCHAR(255)  NOT NULL,
+    applied_date DATE,
+    notes        VARCHAR(2000),
+    user_email   VARCHAR(255)  NOT NULL,
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    CONSTRAINT job_applications_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_job_applications_user FOREIGN KEY (user_email) REFERENCES users (email)
+);
@@ -0,0 +1,21 @@
+-- Indexes covering the access paths of JobApplicationRepository.
+
+-- findByUserEmailAndStatusOrderByAppliedDateDesc / findByUserEmailAndStatus
+CREATE INDEX IF NOT EXISTS idx_job_applications_user_status_applied
+    ON job_applications (user_email, status, applied_date DESC);
+
+-- findByUserEmailOrderByAppliedDateDesc / streamByUserEmail / findByIdAndUserEmail (FK lookups)
+CREATE INDEX IF NOT EXISTS idx_job_applications_user_applied
+    ON job_applications (user_email, applied_date DESC);
+
+-- findByStatusOrderByAppliedDateDesc
+CREATE INDEX IF NOT EXISTS idx_job_applications_status_applied
+    ON job_applications (status, applied_date DESC);
+
+-- findDistinctUserEmailsByStatus (index-only scan)
+CREATE INDEX IF NOT EXISTS idx_job_applications_status_user
+    ON job_applications (status, user_email);
+
+-- findAllByOrderByAppliedDateDesc
+CREATE INDEX IF NOT EXISTS idx_job_applications_applied
+    ON job_applications (applied_date DESC);
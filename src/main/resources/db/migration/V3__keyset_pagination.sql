@@ -0,0 +1,24 @@
+-- Keyset pagination seeks on (applied_date, id), so applied_date can no longer be NULL.
+-- Applications without an applied date fall back to the day they were created.
+UPDATE job_applications
+SET applied_date = COALESCE(CAST(created_at AS DATE), CURRENT_DATE)
+WHERE applied_date IS NULL;
+
+ALTER TABLE job_applications ALTER COLUMN applied_date SET NOT NULL;
+
+-- Listing indexes now carry id as the tie-breaker of the (applied_date DESC, id DESC) sort
+DROP INDEX IF EXISTS idx_job_applications_user_status_applied;
+CREATE INDEX idx_job_applications_user_status_applied
+    ON job_applications (user_email, status, applied_date DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_job_applications_user_applied;
+CREATE INDEX idx_job_applications_user_applied
+    ON job_applications (user_email, applied_date DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_job_applications_status_applied;
+CREATE INDEX idx_job_applications_status_applied
+    ON job_applications (status, applied_date DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_job_applications_applied;
+CREATE INDEX idx_job_applications_applied
+    ON job_applications (applied_date DESC, id DESC);
@@ -0,0 +1,11 @@
+-- Durable progress of the daily reminder job, committed after every chunk so a run can resume
+CREATE TABLE reminder_runs (
+    run_date     DATE         NOT NULL,
+    last_email   VARCHAR(255),
+    sent_count   INTEGER      NOT NULL DEFAULT 0,
+    failed_count INTEGER      NOT NULL DEFAULT 0,
+    completed    BOOLEAN      NOT NULL DEFAULT FALSE,
+    started_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6),
+    CONSTRAINT reminder_runs_pkey PRIMARY KEY (run_date)
+);
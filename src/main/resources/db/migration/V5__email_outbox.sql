@@ -0,0 +1,27 @@
+-- Transactional outbox for outgoing email. Rows are written in the same transaction as the
+-- business change that produces them and drained by EmailOutboxService#relay on every instance.
+CREATE TABLE email_outbox (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    dedupe_key   VARCHAR(255)  NOT NULL,
+    recipient    VARCHAR(255)  NOT NULL,
+    subject      VARCHAR(255)  NOT NULL,
+    body         TEXT          NOT NULL,
+    status       VARCHAR(20)   NOT NULL DEFAULT 'PENDING',
+    attempts     INTEGER       NOT NULL DEFAULT 0,
+    available_at TIMESTAMP(6)  NOT NULL,
+    created_at   TIMESTAMP(6)  NOT NULL,
+    sent_at      TIMESTAMP(6),
+    last_error   VARCHAR(1000),
+    CONSTRAINT email_outbox_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_email_outbox_dedupe_key UNIQUE (dedupe_key)
+);
+
+-- Claim path: pending rows whose next attempt (or expired claim lease) is due
+CREATE INDEX idx_email_outbox_pending ON email_outbox (available_at) WHERE status = 'PENDING';
+
+-- Retention purge: delivered and abandoned messages, oldest first
+CREATE INDEX idx_email_outbox_finished ON email_outbox (created_at) WHERE status IN ('SENT', 'FAILED');
+
+-- The reminder job now enqueues messages instead of sending them
+ALTER TABLE reminder_runs RENAME COLUMN sent_count TO enqueued_count;
+ALTER TABLE reminder_runs DROP COLUMN failed_count;
@@ -0,0 +1,12 @@
+-- The reminder job is split into shards (hash of the user's email) that replicas claim through leases
+ALTER TABLE reminder_runs ADD COLUMN shard INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE reminder_runs DROP CONSTRAINT reminder_runs_pkey;
+ALTER TABLE reminder_runs ADD CONSTRAINT reminder_runs_pkey PRIMARY KEY (run_date, shard);
+
+-- One row per shard; a replica owns a shard while lease_until is in the future (database clock)
+CREATE TABLE reminder_shard_leases (
+    shard       INTEGER      NOT NULL,
+    owner       VARCHAR(255) NOT NULL,
+    lease_until TIMESTAMPTZ  NOT NULL,
+    CONSTRAINT reminder_shard_leases_pkey PRIMARY KEY (shard)
+);
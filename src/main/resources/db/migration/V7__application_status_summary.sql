@@ -0,0 +1,11 @@
+-- Precomputed global status funnel, refreshed periodically when app.stats.summary.enabled=true
+CREATE MATERIALIZED VIEW application_status_summary AS
+SELECT status, count(*) AS total
+FROM job_applications
+GROUP BY status;
+
+-- Required for REFRESH MATERIALIZED VIEW CONCURRENTLY
+CREATE UNIQUE INDEX idx_application_status_summary_status ON application_status_summary (status);
+
+-- Per-company counts group on company
+CREATE INDEX idx_job_applications_company ON job_applications (company);
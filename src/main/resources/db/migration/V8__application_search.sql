@@ -0,0 +1,10 @@
+-- Full-text search over company, position and notes. The vector is computed by Postgres on every
+-- write, weighted so matches on company rank above position, and position above notes.
+ALTER TABLE job_applications ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(company, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(position, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(notes, '')), 'C')
+    ) STORED;
+
+CREATE INDEX idx_job_applications_search ON job_applications USING GIN (search_vector);
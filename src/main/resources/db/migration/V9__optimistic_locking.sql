@@ -0,0 +1,3 @@
+-- Row versions for optimistic locking (JPA @Version); also the source of ETags
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE job_applications ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,79 @@
+package com.example.HireTrack.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Permits of synchronous and asynchronous (streamed) requests, and the 503 once they are used up
+ */
+class ConcurrencyLimitFilterTests {
+
+    private static final FilterChain OK = (request, response) -> { };
+    private static final FilterChain ASYNC = (request, response) -> ((HttpServletRequest) request).startAsync();
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(10));
+
+    @Test
+    void synchronousRequestsReleaseTheirPermit() throws Exception {
+        assertThat(send(OK).response().getStatus()).isEqualTo(200);
+        assertThat(send(OK).response().getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void requestsOverTheLimitGet503WithRetryAfter() throws Exception {
+        send(ASYNC);
+
+        MockHttpServletResponse rejected = send(OK).response();
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    @Test
+    void asyncRequestHoldsItsPermitUntilCompletion() throws Exception {
+        Exchange streaming = send(ASYNC);
+        assertThat(send(OK).response().getStatus()).isEqualTo(503);
+
+        streaming.request().getAsyncContext().complete();
+
+        assertThat(send(OK).response().getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void nonApiRequestsAreNotLimited() throws Exception {
+        send(ASYNC);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, OK);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void eventStreamsDoNotTakePermits() throws Exception {
+        MockHttpServletRequest events = new MockHttpServletRequest("GET", "/api/applications/user/a@example.com/events");
+        events.setAsyncSupported(true);
+        filter.doFilter(events, new MockHttpServletResponse(), ASYNC);
+
+        assertThat(send(OK).response().getStatus()).isEqualTo(200);
+    }
+
+    private Exchange send(FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/applications/user/a@example.com/export");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return new Exchange(request, response);
+    }
+
+    private record Exchange(MockHttpServletRequest request, MockHttpServletResponse response) {
+    }
+}
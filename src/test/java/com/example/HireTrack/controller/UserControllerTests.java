@@ -0,0 +1,109 @@
+package com.example.HireTrack.controller;
+
+import com.example.HireTrack.dto.CursorPage;
+import com.example.HireTrack.model.User;
+import com.example.HireTrack.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Conditional requests on users: the ETag is the user's version (or a digest of a page), a matching
+ * If-None-Match is answered with 304 and no body, and an update with a stale If-Match is refused with 412.
+ */
+@WebMvcTest(UserController.class)
+class UserControllerTests {
+
+    private static final String EMAIL = "etag@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UserService service;
+
+    @Test
+    void getReturnsVersionAsETag() throws Exception {
+        when(service.getUserByEmail(EMAIL)).thenReturn(Optional.of(user(3L)));
+
+        mockMvc.perform(get("/api/users/{email}", EMAIL))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    }
+
+    @Test
+    void matchingIfNoneMatchReturnsNotModified() throws Exception {
+        when(service.getUserByEmail(EMAIL)).thenReturn(Optional.of(user(3L)));
+
+        mockMvc.perform(get("/api/users/{email}", EMAIL).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void outdatedIfNoneMatchReturnsUser() throws Exception {
+        when(service.getUserByEmail(EMAIL)).thenReturn(Optional.of(user(4L)));
+
+        mockMvc.perform(get("/api/users/{email}", EMAIL).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    void unchangedPageReturnsNotModified() throws Exception {
+        when(service.getAllUsers(null, CursorPage.DEFAULT_SIZE))
+                .thenReturn(new CursorPage<>(List.of(user(3L)), null, false));
+        String eTag = mockMvc.perform(get("/api/users"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/users").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void staleIfMatchReturnsPreconditionFailed() throws Exception {
+        when(service.updateUser(eq(EMAIL), any(User.class), eq(2L)))
+                .thenThrow(new OptimisticLockingFailureException("User " + EMAIL + " is at version 3, not 2"));
+
+        mockMvc.perform(put("/api/users/{email}", EMAIL)
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + EMAIL + "\",\"name\":\"Renamed\"}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void malformedIfMatchReturnsBadRequest() throws Exception {
+        mockMvc.perform(put("/api/users/{email}", EMAIL)
+                        .header(HttpHeaders.IF_MATCH, "\"not-a-version\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + EMAIL + "\",\"name\":\"Renamed\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static User user(Long version) {
+        User user = new User();
+        user.setEmail(EMAIL);
+        user.setName("ETag");
+        user.setVersion(version);
+        return user;
+    }
+}
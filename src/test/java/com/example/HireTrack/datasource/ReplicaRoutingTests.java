@@ -0,0 +1,147 @@
+package com.example.HireTrack.datasource;
+
+import com.example.HireTrack.cache.ApplicationListCache;
+import com.example.HireTrack.model.User;
+import com.example.HireTrack.service.UserService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes reads between two independent Postgres instances standing in for a primary and its replica.
+ * They do not replicate, so each holds a different name for the same user, which shows where a read went.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReplicaRoutingConfig.class, ReadYourWrites.class, UserService.class, ApplicationListCache.class,
+        ReplicaRoutingTests.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingTests {
+
+    private static final String WRITER = "writer@example.com";
+    private static final String READER = "reader@example.com";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.datasource.replicas.enabled", () -> "true");
+        registry.add("app.datasource.replicas.urls", replica::getJdbcUrl);
+        registry.add("app.datasource.replicas.username", replica::getUsername);
+        registry.add("app.datasource.replicas.password", replica::getPassword);
+        registry.add("app.datasource.replicas.connection-timeout", () -> "1s");
+    }
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ReplicaPool replicaPool;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        if (replica.isRunning()) {
+            seed(new JdbcTemplate(new DriverManagerDataSource(replica.getJdbcUrl(), replica.getUsername(),
+                    replica.getPassword())), "Replica");
+        }
+        seed(new JdbcTemplate(primaryDataSource), "Primary");
+        evictSecondLevelCache();
+    }
+
+    @Test
+    @Order(1)
+    void readOnlyTransactionsReadFromReplica() {
+        assertThat(userService.getUserByEmail(READER)).map(User::getName).contains("Replica");
+    }
+
+    @Test
+    @Order(2)
+    void writerReadsOwnWritesWithinStalenessWindow() {
+        User details = new User();
+        details.setName("Renamed");
+        userService.updateUser(WRITER, details, null);
+        evictSecondLevelCache();
+
+        assertThat(userService.getUserByEmail(WRITER)).map(User::getName).contains("Renamed");
+        assertThat(userService.getUserByEmail(READER)).map(User::getName).contains("Replica");
+    }
+
+    @Test
+    @Order(3)
+    void readsFallBackToPrimaryWhenReplicaIsDown() {
+        replica.stop();
+        replicaPool.checkHealth();
+
+        assertThat(userService.getUserByEmail(READER)).map(User::getName).contains("Primary");
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, String name) {
+        jdbcTemplate.update("DELETE FROM users");
+        for (String email : new String[] {WRITER, READER}) {
+            jdbcTemplate.update("INSERT INTO users (email, name, created_at, updated_at, version) VALUES (?, ?, now(), now(), 0)",
+                    email, name);
+        }
+    }
+
+    private void evictSecondLevelCache() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
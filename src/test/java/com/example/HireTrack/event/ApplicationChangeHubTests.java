@@ -0,0 +1,124 @@
+package com.example.HireTrack.event;
+
+import com.example.HireTrack.model.ApplicationStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * A subscriber whose client stops accepting events: publishing to it must not block, and once its bounded
+ * queue overflows the queued changes are replaced by a single RESYNC.
+ */
+class ApplicationChangeHubTests {
+
+    private static final String EMAIL = "slow@example.com";
+    private static final int QUEUE_CAPACITY = 4;
+
+    private final RecordingEmitter emitter = new RecordingEmitter();
+    private final ApplicationChangeHub hub = new ApplicationChangeHub(QUEUE_CAPACITY, 10, Duration.ofMinutes(1)) {
+        @Override
+        SseEmitter newEmitter() {
+            return emitter;
+        }
+    };
+
+    @AfterEach
+    void shutDown() {
+        emitter.unblock();
+        hub.shutdown();
+    }
+
+    @Test
+    void overflowingSlowSubscriberGetsResyncWithoutBlockingPublisher() throws Exception {
+        emitter.block();
+        hub.subscribe(EMAIL);
+        hub.publish(created());
+        // The sender has taken the first change and is stuck writing it to the client
+        assertThat(emitter.sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            for (int i = 0; i <= QUEUE_CAPACITY; i++) {
+                hub.publish(created());
+            }
+        });
+        emitter.unblock();
+
+        assertThat(emitter.awaitSent(2)).containsExactly("CREATED", ApplicationChangeHub.RESYNC);
+    }
+
+    @Test
+    void subscriberThatKeepsUpGetsEveryChange() throws Exception {
+        hub.subscribe(EMAIL);
+        for (int i = 0; i <= QUEUE_CAPACITY; i++) {
+            hub.publish(created());
+            emitter.awaitSent(i + 1);
+        }
+        hub.publish(ApplicationChangeEvent.deleted(EMAIL, UUID.randomUUID()));
+
+        assertThat(emitter.awaitSent(QUEUE_CAPACITY + 2))
+                .hasSize(QUEUE_CAPACITY + 2)
+                .endsWith("DELETED")
+                .doesNotContain(ApplicationChangeHub.RESYNC);
+    }
+
+    private static ApplicationChangeEvent created() {
+        return ApplicationChangeEvent.created(EMAIL, UUID.randomUUID(), ApplicationStatus.APPLIED);
+    }
+
+    /**
+     * Records the names of the events sent to the client, and can hold the sender until unblocked
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        final CountDownLatch sending = new CountDownLatch(1);
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch blocked = new CountDownLatch(0);
+
+        void block() {
+            blocked = new CountDownLatch(1);
+        }
+
+        void unblock() {
+            blocked.countDown();
+        }
+
+        @Override
+        public void send(SseEventBuilder event) throws IOException {
+            sending.countDown();
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            String text = event.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining());
+            text.lines()
+                    .filter(line -> line.startsWith("event:"))
+                    .findFirst()
+                    .ifPresent(line -> sent.add(line.substring("event:".length())));
+        }
+
+        List<String> awaitSent(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sent.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return List.copyOf(sent);
+        }
+    }
+}
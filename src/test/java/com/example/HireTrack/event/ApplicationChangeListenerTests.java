@@ -0,0 +1,137 @@
+package com.example.HireTrack.event;
+
+import com.example.HireTrack.cache.ApplicationListCache;
+import com.example.HireTrack.datasource.ReadYourWrites;
+import com.example.HireTrack.model.User;
+import com.example.HireTrack.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A user changed by another instance, which updates the row and NOTIFYs user_changes like
+ * {@link ApplicationChangeNotifier} does: this instance keeps serving its cached copy until the
+ * notification arrives, then drops it and reads the new row.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ApplicationChangeListener.class, ApplicationChangeHub.class, ApplicationListCache.class, ReadYourWrites.class,
+        UserService.class, ApplicationChangeListenerTests.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class ApplicationChangeListenerTests {
+
+    private static final String EMAIL = "notified@example.com";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private Cache secondLevelCache;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM job_applications");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("INSERT INTO users (email, name, created_at, updated_at, version) VALUES (?, 'Cached', now(), now(), 0)",
+                EMAIL);
+        secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        secondLevelCache.evictAllRegions();
+        // Notifications sent before the listener's LISTEN are not delivered to it
+        awaitTrue(() -> jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_stat_activity WHERE query = 'LISTEN " + ApplicationChangeListener.USER_CHANNEL + "'",
+                Integer.class) > 0);
+    }
+
+    @Test
+    void userChangeNotifiedByAnotherInstanceEvictsCachedUser() throws Exception {
+        Long id = userService.getUserByEmail(EMAIL).orElseThrow().getId();
+        assertThat(secondLevelCache.containsEntity(User.class, id)).isTrue();
+
+        jdbcTemplate.update("UPDATE users SET name = 'Renamed', version = version + 1 WHERE email = ?", EMAIL);
+        assertThat(userService.getUserByEmail(EMAIL).orElseThrow().getName()).isEqualTo("Cached");
+
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", ApplicationChangeListener.USER_CHANNEL,
+                objectMapper.writeValueAsString(new UserChangeEvent(EMAIL, id)));
+
+        awaitTrue(() -> !secondLevelCache.containsEntity(User.class, id));
+        assertThat(userService.getUserByEmail(EMAIL).orElseThrow().getName()).isEqualTo("Renamed");
+    }
+
+    @Test
+    void userCreatedByAnotherInstanceIsNoLongerCachedAsMissing() throws Exception {
+        String email = "created-elsewhere@example.com";
+        assertThat(userService.userExists(email)).isFalse();
+
+        Long id = jdbcTemplate.queryForObject(
+                "INSERT INTO users (email, name, created_at, updated_at, version) VALUES (?, 'Created', now(), now(), 0) RETURNING id",
+                Long.class, email);
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", ApplicationChangeListener.USER_CHANNEL,
+                objectMapper.writeValueAsString(new UserChangeEvent(email, id)));
+
+        awaitTrue(() -> userService.userExists(email));
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("time waited for the listener").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
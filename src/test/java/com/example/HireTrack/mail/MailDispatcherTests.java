@@ -0,0 +1,85 @@
+package com.example.HireTrack.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the dispatch engine against a local GreenMail SMTP server.
+ */
+class MailDispatcherTests {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private MailDispatcher dispatcher;
+
+    @AfterEach
+    void shutdown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void deliversConcurrentlyDispatchedMessages() {
+        dispatcher = dispatcher(ServerSetupTest.SMTP.getPort(), 0);
+
+        List<CompletableFuture<Boolean>> sends = IntStream.range(0, 20)
+                .mapToObj(i -> dispatcher.dispatch(message("user" + i + "@example.com")))
+                .toList();
+
+        assertThat(sends).allSatisfy(send -> assertThat(send.join()).isTrue());
+        assertThat(greenMail.getReceivedMessages()).hasSize(20);
+    }
+
+    @Test
+    void enforcesGlobalSendRate() {
+        dispatcher = dispatcher(ServerSetupTest.SMTP.getPort(), 10);
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Boolean>> sends = IntStream.range(0, 10)
+                .mapToObj(i -> dispatcher.dispatch(message("user" + i + "@example.com")))
+                .toList();
+        sends.forEach(CompletableFuture::join);
+
+        // 10 messages at 10/s: the last one cannot leave before ~0.9 s
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(800));
+        assertThat(greenMail.getReceivedMessages()).hasSize(10);
+    }
+
+    @Test
+    void reportsFailureAfterRetriesWhenServerIsUnreachable() {
+        dispatcher = dispatcher(1, 0);
+
+        assertThat(dispatcher.dispatch(message("user@example.com")).join()).isFalse();
+    }
+
+    private static MailDispatcher dispatcher(int port, double globalRate) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        return new MailDispatcher(mailSender, 4, globalRate, 0, 3, Duration.ofMillis(50), new SimpleMeterRegistry());
+    }
+
+    private static SimpleMailMessage message(String to) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("reminders@hiretrack.test");
+        message.setTo(to);
+        message.setSubject("Reminder: You have pending job applications");
+        message.setText("Hello");
+        return message;
+    }
+}
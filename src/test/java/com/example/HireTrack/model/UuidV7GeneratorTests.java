@@ -0,0 +1,43 @@
+package com.example.HireTrack.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bit layout and ordering of the generated UUIDv7 ids
+ */
+class UuidV7GeneratorTests {
+
+    @Test
+    void setsVersionAndVariantBits() {
+        UUID id = UuidV7Generator.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void embedsCurrentUnixMillis() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7Generator.next();
+        long after = System.currentTimeMillis();
+
+        // Earlier calls may have borrowed a few milliseconds ahead when their counter overflowed
+        assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, after + 100);
+    }
+
+    @Test
+    void idsIncreaseStrictlyWithinOneMillisecond() {
+        // More ids than the 12-bit counter holds, so most share a millisecond and some overflow into the next
+        UUID previous = UuidV7Generator.next();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = UuidV7Generator.next();
+            // Postgres orders uuids by their bytes, which is the order of their text form
+            assertThat(next.toString()).isGreaterThan(previous.toString());
+            previous = next;
+        }
+    }
+}
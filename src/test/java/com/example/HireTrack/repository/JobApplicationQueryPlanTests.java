@@ -0,0 +1,287 @@
+package com.example.HireTrack.repository;
+
+import com.example.HireTrack.model.ApplicationStatus;
+import com.example.HireTrack.model.JobApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Asserts the EXPLAIN plans of the repository access paths against a real Postgres, so a query that stops
+ * using its index (and falls back to a sequential scan) fails the build. Each test calls a repository method
+ * and explains the SQL and bind values it actually sent, captured at the JDBC level, so a changed query
+ * method is checked as it now is. The planner is left to its own costing: the data is seeded once with a
+ * production-like shape (most applications closed, old closed ones archived, few open and offered) and
+ * vacuumed and analyzed, so the plans are the ones it would pick.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JobApplicationQueryPlanTests.StatementCapture.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class JobApplicationQueryPlanTests {
+
+    private static final int USERS = 2_000;
+    private static final int APPLICATIONS = 100_000;
+    private static final Limit PAGE = Limit.of(20);
+    private static final List<CapturedStatement> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static boolean seeded;
+
+    @Autowired
+    private JobApplicationRepository repository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private Long userId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        if (!seeded) {
+            jdbcTemplate.update("""
+                    INSERT INTO users (email, name, created_at, updated_at)
+                    SELECT 'user' || g || '@example.com', 'User ' || g, now(), now()
+                    FROM generate_series(1, ?) g
+                    """, USERS);
+            // 60% rejected, 20% applied, 10% interviewing, 5% offered, 5% hired, spread over two years;
+            // closed applications older than a year sit in the archive partition, as the archiver leaves them
+            jdbcTemplate.update("""
+                    INSERT INTO job_applications (id, company, position, status, applied_date, archived, user_id,
+                                                  created_at, updated_at)
+                    SELECT gen_random_uuid(), a.company, 'Engineer', a.status, a.applied_date,
+                           a.status IN ('REJECTED', 'HIRED') AND a.applied_date < current_date - 365, u.id, now(), now()
+                    FROM (
+                        SELECT g, 'Company ' || (g % 1000) AS company, current_date - (g * 37 % 730) AS applied_date,
+                               CASE WHEN g % 20 < 12 THEN 'REJECTED'
+                                    WHEN g % 20 < 16 THEN 'APPLIED'
+                                    WHEN g % 20 < 18 THEN 'INTERVIEW'
+                                    WHEN g % 20 < 19 THEN 'OFFERED'
+                                    ELSE 'HIRED' END AS status
+                        FROM generate_series(1, ?) g
+                    ) a
+                    JOIN users u ON u.email = 'user' || (1 + (a.g - 1) / ?) || '@example.com'
+                    """, APPLICATIONS, APPLICATIONS / USERS);
+            jdbcTemplate.execute("VACUUM ANALYZE users");
+            jdbcTemplate.execute("VACUUM ANALYZE job_applications");
+            seeded = true;
+        }
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'user1@example.com'", Long.class);
+        STATEMENTS.clear();
+    }
+
+    @Test
+    void userAndOpenStatusListingUsesCompositeIndex() {
+        repository.findByUserIdAndStatusAndArchivedFalseOrderByAppliedDateDescIdDesc(userId, ApplicationStatus.APPLIED,
+                ScrollPosition.keyset(), PAGE, JobApplication.class);
+
+        assertThat(explainQuery())
+                .contains("idx_job_applications_user_status_applied")
+                .doesNotContain("job_applications_archive")
+                .doesNotContain("Seq Scan on job_applications");
+    }
+
+    @Test
+    void userAndClosedStatusListingUsesCompositeIndex() {
+        repository.findByUserIdAndStatusOrderByAppliedDateDescIdDesc(userId, ApplicationStatus.REJECTED,
+                ScrollPosition.keyset(), PAGE, JobApplication.class);
+
+        assertUsesIndex("idx_job_applications_user_status_applied");
+    }
+
+    @Test
+    void userListingUsesUserIndex() {
+        repository.findByUserIdOrderByAppliedDateDescIdDesc(userId, ScrollPosition.keyset(), PAGE, JobApplication.class);
+
+        assertUsesIndex("idx_job_applications_user_applied");
+    }
+
+    @Test
+    void userListingNextPageUsesUserIndex() {
+        ScrollPosition afterFirstPage = ScrollPosition.forward(Map.of("appliedDate", LocalDate.now().minusDays(100),
+                "id", UUID.fromString("ffffffff-ffff-7fff-bfff-ffffffffffff")));
+        repository.findByUserIdOrderByAppliedDateDescIdDesc(userId, afterFirstPage, PAGE, JobApplication.class);
+
+        assertUsesIndex("idx_job_applications_user_applied");
+    }
+
+    @Test
+    void openStatusListingOnlyReadsHotPartition() {
+        repository.findByStatusAndArchivedFalseOrderByAppliedDateDescIdDesc(ApplicationStatus.OFFERED,
+                ScrollPosition.keyset(), PAGE, JobApplication.class);
+
+        assertThat(explainQuery())
+                .contains("idx_job_applications_status_applied_hot")
+                .doesNotContain("job_applications_archive")
+                .doesNotContain("Seq Scan on job_applications");
+    }
+
+    @Test
+    void globalListingUsesAppliedDateIndex() {
+        repository.findAllByOrderByAppliedDateDescIdDesc(ScrollPosition.keyset(), PAGE, JobApplication.class);
+
+        assertUsesIndex("idx_job_applications_applied");
+    }
+
+    @Test
+    void reminderEmailChunkAvoidsSequentialScan() {
+        repository.findDistinctUserEmailsByStatusInShardAfter(ApplicationStatus.APPLIED.name(), 4, 0, "", 200);
+
+        // Either (status, user_id) or (user_id, status, ...) serves this join, so only the scan is asserted
+        assertUsesIndex("idx_job_applications_");
+    }
+
+    @Test
+    void searchAvoidsSequentialScan() {
+        repository.searchFirst(userId, "Company 42", 20);
+
+        // The GIN index or the user's own rows, whichever the planner finds fewer of
+        assertThat(explainQuery())
+                .containsAnyOf("idx_job_applications_search", "idx_job_applications_user_")
+                .doesNotContain("Seq Scan on job_applications");
+    }
+
+    private void assertUsesIndex(String indexName) {
+        assertThat(explainQuery())
+                .contains(indexName)
+                .doesNotContain("Seq Scan on job_applications");
+    }
+
+    // EXPLAIN the query the repository call sent, with the values it was bound to
+    private String explainQuery() {
+        assertThat(STATEMENTS).as("queries sent by the repository call").isNotEmpty();
+        CapturedStatement query = STATEMENTS.get(0);
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + query.sql())) {
+                for (Binding binding : query.bindings()) {
+                    binding.applyTo(explain);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = explain.executeQuery()) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    private record CapturedStatement(String sql, List<Binding> bindings) {
+    }
+
+    private record Binding(Method setter, Object[] args) {
+
+        void applyTo(PreparedStatement statement) throws SQLException {
+            try {
+                setter.invoke(statement, args);
+            } catch (ReflectiveOperationException e) {
+                throw new SQLException("Could not bind " + setter.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Wraps the DataSource so that every query run through a PreparedStatement is captured with its bind values
+     */
+    @TestConfiguration
+    static class StatementCapture {
+
+        @Bean
+        static BeanPostProcessor capturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? capturing(dataSource) : bean;
+                }
+            };
+        }
+
+        private static DataSource capturing(DataSource dataSource) {
+            return proxy(DataSource.class, (method, args) -> {
+                Object result = invoke(dataSource, method, args);
+                return result instanceof Connection connection ? capturing(connection) : result;
+            });
+        }
+
+        private static Connection capturing(Connection connection) {
+            return proxy(Connection.class, (method, args) -> {
+                Object result = invoke(connection, method, args);
+                return method.getName().equals("prepareStatement")
+                        ? capturing((PreparedStatement) result, (String) args[0])
+                        : result;
+            });
+        }
+
+        private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+            List<Binding> bindings = new ArrayList<>();
+            return proxy(PreparedStatement.class, (method, args) -> {
+                // Parameter setters are declared on PreparedStatement; setFetchSize and the like on Statement
+                if (method.getDeclaringClass() == PreparedStatement.class && method.getName().startsWith("set")) {
+                    bindings.add(new Binding(method, args));
+                } else if (method.getName().equals("clearParameters")) {
+                    bindings.clear();
+                } else if (method.getName().equals("executeQuery") && args == null) {
+                    STATEMENTS.add(new CapturedStatement(sql, List.copyOf(bindings)));
+                }
+                return invoke(statement, method, args);
+            });
+        }
+
+        private static <T> T proxy(Class<T> type, Handler handler) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                    (proxy, method, args) -> handler.handle(method, args)));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private interface Handler {
+            Object handle(Method method, Object[] args) throws Throwable;
+        }
+    }
+}
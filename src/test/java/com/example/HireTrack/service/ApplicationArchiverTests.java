@@ -0,0 +1,126 @@
+package com.example.HireTrack.service;
+
+import com.example.HireTrack.cache.ApplicationListCache;
+import com.example.HireTrack.datasource.ReadYourWrites;
+import com.example.HireTrack.dto.JobApplicationView;
+import com.example.HireTrack.model.ApplicationStatus;
+import com.example.HireTrack.model.JobApplication;
+import com.example.HireTrack.repository.JobApplicationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Edits of an application loaded before it was archived: they must fail their version check rather than
+ * write archived = false back and move the row to the hot partition.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ApplicationArchiver.class, JobApplicationService.class, ApplicationListCache.class, ReadYourWrites.class,
+        ApplicationArchiverTests.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class ApplicationArchiverTests {
+
+    private static final String EMAIL = "archived@example.com";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ApplicationArchiver archiver;
+
+    @Autowired
+    private JobApplicationService service;
+
+    @Autowired
+    private JobApplicationRepository repository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private UUID id;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM job_applications");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("INSERT INTO users (email, name, created_at, updated_at, version) VALUES (?, 'Archived', now(), now(), 0)",
+                EMAIL);
+        id = jdbcTemplate.queryForObject("""
+                INSERT INTO job_applications (company, position, status, applied_date, user_id, created_at, updated_at, version)
+                SELECT 'Acme', 'Engineer', 'REJECTED', current_date - 800, id, now(), now(), 0 FROM users WHERE email = ?
+                RETURNING id
+                """, UUID.class, EMAIL);
+    }
+
+    @Test
+    void conditionalUpdateWithVersionReadBeforeArchivingIsRejected() {
+        Long version = repository.findById(id).orElseThrow().getVersion();
+
+        archiver.archiveClosedApplications();
+
+        assertThatThrownBy(() -> service.updateApplicationStatus(id, ApplicationStatus.HIRED, EMAIL, version))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(archived()).isTrue();
+    }
+
+    @Test
+    void savingCopyLoadedBeforeArchivingFailsVersionCheck() {
+        JobApplication stale = repository.findById(id).orElseThrow();
+
+        archiver.archiveClosedApplications();
+
+        stale.setNotes("Edited after archiving");
+        assertThatThrownBy(() -> repository.save(stale)).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(archived()).isTrue();
+    }
+
+    @Test
+    void archivingEvictsOwnersCachedPages() {
+        Long version = service.getAllApplicationsByUser(EMAIL, null, 20, JobApplicationView.class).items().get(0).getVersion();
+
+        archiver.archiveClosedApplications();
+
+        assertThat(service.getAllApplicationsByUser(EMAIL, null, 20, JobApplicationView.class).items())
+                .singleElement()
+                .satisfies(application -> assertThat(application.getVersion()).isEqualTo(version + 1));
+    }
+
+    private boolean archived() {
+        return jdbcTemplate.queryForObject("SELECT archived FROM job_applications WHERE id = ?", Boolean.class, id);
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
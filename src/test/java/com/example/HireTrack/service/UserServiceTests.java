@@ -0,0 +1,123 @@
+package com.example.HireTrack.service;
+
+import com.example.HireTrack.cache.ApplicationListCache;
+import com.example.HireTrack.datasource.ReadYourWrites;
+import com.example.HireTrack.event.ApplicationChangeEvent;
+import com.example.HireTrack.event.UserChangeEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Deleting a user with many applications: the foreign key removes the applications with the user, and a
+ * single RESYNC announces them instead of one event per application.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserService.class, ApplicationListCache.class, ReadYourWrites.class, UserServiceTests.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@RecordApplicationEvents
+@Testcontainers(disabledWithoutDocker = true)
+class UserServiceTests {
+
+    private static final String EMAIL = "deleted@example.com";
+    private static final String OTHER = "kept@example.com";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private UserService service;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM job_applications");
+        jdbcTemplate.update("DELETE FROM users");
+        for (String email : new String[] {EMAIL, OTHER}) {
+            jdbcTemplate.update("INSERT INTO users (email, name, created_at, updated_at, version) VALUES (?, 'User', now(), now(), 0)",
+                    email);
+            // Some in each partition, as the archiver leaves them
+            jdbcTemplate.update("""
+                    INSERT INTO job_applications (company, position, status, applied_date, archived, user_id,
+                                                  created_at, updated_at, version)
+                    SELECT 'Company ' || g, 'Engineer', 'REJECTED', current_date - g, g % 2 = 0, u.id, now(), now(), 0
+                    FROM generate_series(1, 500) g, users u
+                    WHERE u.email = ?
+                    """, email);
+        }
+    }
+
+    @Test
+    void deletingUserCascadesToApplicationsAndPublishesSingleResync() {
+        service.deleteUser(EMAIL);
+
+        assertThat(applicationCount(EMAIL)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM users WHERE email = ?", Integer.class, EMAIL))
+                .isZero();
+        assertThat(applicationCount(OTHER)).isEqualTo(500);
+        assertThat(events.stream(ApplicationChangeEvent.class))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.type()).isEqualTo(ApplicationChangeEvent.Type.RESYNC);
+                    assertThat(event.userEmail()).isEqualTo(EMAIL);
+                });
+        assertThat(events.stream(UserChangeEvent.class))
+                .singleElement()
+                .extracting(UserChangeEvent::userEmail)
+                .isEqualTo(EMAIL);
+    }
+
+    @Test
+    void deletingUnknownUserPublishesNothing() {
+        assertThatThrownBy(() -> service.deleteUser("missing@example.com")).isInstanceOf(RuntimeException.class);
+
+        assertThat(events.stream(ApplicationChangeEvent.class)).isEmpty();
+        assertThat(events.stream(UserChangeEvent.class)).isEmpty();
+    }
+
+    private int applicationCount(String email) {
+        return jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM job_applications a JOIN users u ON u.id = a.user_id WHERE u.email = ?
+                """, Integer.class, email);
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}